@@ -0,0 +1,64 @@
+package com.amore.aketer.domain.message;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 아웃박스
+ *
+ * - 예약 선점(READY → PENDING)과 같은 트랜잭션에서 INSERT ... SELECT 로 적재, 커밋된 예약만 큐에 올라가도록 보장
+ * - 릴레이가 id 순으로 읽어 큐에 적재하고 broker 확인(ack)을 받은 행만 삭제
+ */
+@Entity
+@Table(name = "message_outbox")
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "reservation_id", nullable = false)
+    private Long reservationId;
+
+    @Column(name = "persona_id", nullable = false)
+    private Long personaId;
+
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "channel_type", nullable = false, length = 20)
+    private ChannelType channelType;
+
+    @Column(name = "channel_address", nullable = false, length = 128)
+    private String channelAddress;
+
+    @Column(name = "retry_count")
+    private int retryCount;
+
+    @Column(name = "trace_id", nullable = false, length = 36)
+    private String traceId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public MessagePayload toPayload() {
+        return MessagePayload.builder()
+                .reservationId(reservationId)
+                .personaId(personaId)
+                .messageId(messageId)
+                .channelType(channelType)
+                .channelAddress(channelAddress)
+                .retryCount(retryCount)
+                .traceId(traceId)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.amore.aketer.domain.message;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MessageOutboxRepository extends JpaRepository<MessageOutbox, Long> {
+
+    /**
+     * 선점한 예약을 아웃박스에 일괄 적재 (예약마다 traceId 발급)
+     */
+    @Modifying
+    @Query(value = """
+    insert into message_outbox (reservation_id, persona_id, message_id, channel_type, channel_address, retry_count, trace_id, created_at)
+    select id, persona_id, message_id, channel_type, channel_address, retry_count, uuid(), now(6)
+    from message_reservation
+    where id in :ids
+    order by scheduled_at
+    """, nativeQuery = true)
+    int appendReservations(@Param("ids") List<Long> ids);
+
+    /**
+     * 아웃박스 앞에서부터 최대 limit 건 잠금 (다른 릴레이가 잠근 행은 건너뜀)
+     */
+    @Query(value = """
+    select *
+    from message_outbox
+    order by id
+    limit :limit
+    for update skip locked
+    """, nativeQuery = true)
+    List<MessageOutbox> lockBatch(@Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from MessageOutbox mo where mo.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
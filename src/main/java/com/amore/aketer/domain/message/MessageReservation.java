@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Table(name = "message_reservation", indexes = {
         @Index(name = "idx_msg_res_persona", columnList = "persona_id"),
         @Index(name = "idx_msg_res_scheduled_at", columnList = "scheduled_at"),
-        @Index(name = "idx_msg_res_status", columnList = "status")
+        @Index(name = "idx_msg_res_status", columnList = "status"),
+        @Index(name = "idx_msg_res_status_scheduled_at", columnList = "status, scheduled_at")
 })
 @Getter
 @Builder
@@ -23,6 +24,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MessageReservation extends BaseEntity {
 
+    public static final int MAX_RETRY_COUNT = 3;
+    public static final long RETRY_DELAY_MINUTES = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -75,18 +79,14 @@ public class MessageReservation extends BaseEntity {
     @Column(name = "version")
     private Long version;
 
-    public void pending() {
-        this.status = MessageStatus.PENDING;
-    }
-
     public void complete() {
         this.status = MessageStatus.COMPLETED;
     }
 
     public void fail(boolean retryable) {
-        if (retryable && this.retryCount < 3) {
+        if (retryable && this.retryCount < MAX_RETRY_COUNT) {
             this.retryCount++;
-            this.scheduledAt = LocalDateTime.now().plusMinutes(5); // 5분 뒤 재시도
+            this.scheduledAt = LocalDateTime.now().plusMinutes(RETRY_DELAY_MINUTES); // 5분 뒤 재시도
             this.status = MessageStatus.READY;
         } else {
             this.status = MessageStatus.FAILED;
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -13,7 +14,196 @@ import java.util.List;
 
 public interface MessageReservationRepository extends JpaRepository<MessageReservation, Long> {
 
-    List<MessageReservation> findByStatusAndScheduledAtBefore(MessageStatus status, LocalDateTime now);
+    /**
+     * 발송 시각이 지난 READY 예약을 최대 limit 건 잠그고 id 반환 (다른 트랜잭션이 잠근 행은 건너뜀)
+     * - 여러 워커/인스턴스가 동시에 호출해도 서로 다른 행을 가져가므로 낙관적 락 충돌 없이 병렬 처리 가능
+     * - 전이(markPending)와 아웃박스 적재는 id 만 쓰므로 엔티티를 읽어 영속성 컨텍스트에 올리지 않음
+     */
+    @Query(value = """
+    select id
+    from message_reservation
+    where status = 'READY' and scheduled_at <= :now
+    order by scheduled_at
+    limit :limit
+    for update skip locked
+    """, nativeQuery = true)
+    List<Long> claimReady(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * 페르소나 오디언스 일괄 예약
+     * - 페르소나 유저마다 아직 구매하지 않은 추천 중 id 가 가장 작은(Rank 가 가장 높은) 1건을 골라 한 번의 INSERT ... SELECT 로 예약 생성
+     * - NOT EXISTS 는 MySQL 8 에서 orders(user_id, item_id) 인덱스를 타는 anti-join 으로 실행되고, ROW_NUMBER 로 유저별 첫 건만 남김
+     * - "이미 구매" 는 orders 기준으로 구매 비트맵 인덱스({@code PurchaseIndex})와 같음 (어느 경로든 같은 오디언스)
+     * - 고른 추천의 채널 주소가 없으면 다음 추천으로 넘어가지 않고 예약하지 않음
+     * - 멤버 id 구간(fromUserId ~ toUserId) 단위로 호출해 한 문장이 처리하는 유저 수를 제한
+     * - 반환값: 생성된 예약 수
+     */
+    @Modifying
+    @Query(value = """
+    insert into message_reservation
+        (persona_id, user_id, message_id, item_id, recommend_reason, channel_type, channel_address,
+         status, scheduled_at, retry_count, version, created_at, updated_at)
+    select :personaId, ranked.user_id, ranked.message_id, ranked.item_id, ranked.recommend_reason, ranked.channel_type, ranked.channel_address,
+           'READY', ranked.scheduled_at, 0, 0, now(6), now(6)
+    from (
+        select u.id as user_id, r.message_id, r.item_id, r.recommend_reason, r.channel_type, r.scheduled_at,
+               case r.channel_type when 'KAKAO' then u.kakao_email when 'SMS' then u.phone_number end as channel_address,
+               row_number() over (partition by u.id order by r.id) as rn
+        from users u
+        join recommend r on r.id in (:recommendIds)
+        where u.persona_id = :personaId
+          and u.id between :fromUserId and :toUserId
+          and not exists (
+              select 1
+              from orders o
+              where o.user_id = u.id
+                and o.item_id = r.item_id
+          )
+    ) ranked
+    where ranked.rn = 1
+      and ranked.channel_address is not null
+      and ranked.channel_address <> ''
+    """, nativeQuery = true)
+    int insertAudienceReservations(@Param("personaId") Long personaId,
+                                   @Param("recommendIds") List<Long> recommendIds,
+                                   @Param("fromUserId") Long fromUserId,
+                                   @Param("toUserId") Long toUserId);
+
+    /**
+     * 이미 추천이 정해진 유저 목록 일괄 예약 (구매 이력 필터는 호출 측에서 처리, 예: 구매 비트맵 인덱스)
+     * - 채널 주소가 없는 유저는 예약하지 않음
+     * - 반환값: 생성된 예약 수
+     */
+    @Modifying
+    @Query(value = """
+    insert into message_reservation
+        (persona_id, user_id, message_id, item_id, recommend_reason, channel_type, channel_address,
+         status, scheduled_at, retry_count, version, created_at, updated_at)
+    select :personaId, target.user_id, target.message_id, target.item_id, target.recommend_reason, target.channel_type, target.channel_address,
+           'READY', target.scheduled_at, 0, 0, now(6), now(6)
+    from (
+        select u.id as user_id, r.message_id, r.item_id, r.recommend_reason, r.channel_type, r.scheduled_at,
+               case r.channel_type when 'KAKAO' then u.kakao_email when 'SMS' then u.phone_number end as channel_address
+        from users u
+        join recommend r on r.id = :recommendId
+        where u.id in (:userIds)
+    ) target
+    where target.channel_address is not null
+      and target.channel_address <> ''
+    """, nativeQuery = true)
+    int insertRecommendReservations(@Param("personaId") Long personaId,
+                                    @Param("recommendId") Long recommendId,
+                                    @Param("userIds") List<Long> userIds);
+
+    /**
+     * 결과가 반영되지 않은 채 stale 초 넘게 PENDING 인 예약 id (아웃박스에 남아 아직 큐에 적재되지 않은 건 제외)
+     * - 결과 버퍼 flush 전에 컨슈머가 죽어 결과가 유실된 건을 찾아 재시도로 돌리는 용도
+     * - 보류/재시도로 재시도 큐에 들어간 건은 컨슈머가 {@link #touchPending(List)} 로 updated_at 을 갱신하므로
+     *   stale 은 "큐 한 번 통과 + 재시도 큐 한 번 대기" 보다 길면 됨 (MessageScheduler 참고)
+     */
+    @Query(value = """
+    select mr.id
+    from message_reservation mr
+    where mr.status = 'PENDING'
+      and mr.updated_at < now(6) - interval :staleSeconds second
+      and not exists (select 1 from message_outbox ob where ob.reservation_id = mr.id)
+    order by mr.id
+    limit :limit
+    """, nativeQuery = true)
+    List<Long> findStalePending(@Param("staleSeconds") long staleSeconds, @Param("limit") int limit);
+
+    //==벌크 상태 전이==//
+    // - id 목록 단위 UPDATE 1회로 처리하고, 전이 가능한 현재 상태를 조건으로 걸어 이미 다른 곳에서 바뀐 행은 건너뜀
+    // - version 을 함께 올려 엔티티 단위로 수정 중인 트랜잭션(예약 수정 등)은 낙관적 락으로 충돌을 감지
+    // - 벌크 UPDATE 는 @LastModifiedDate 를 거치지 않으므로 updatedAt 을 직접 갱신
+    // - 반환값: 실제로 전이된 행 수
+
+    /**
+     * READY → PENDING (발송 선점)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update MessageReservation mr
+    set mr.status = com.amore.aketer.domain.enums.MessageStatus.PENDING, mr.version = mr.version + 1, mr.updatedAt = CURRENT_TIMESTAMP
+    where mr.id in :ids and mr.status = com.amore.aketer.domain.enums.MessageStatus.READY
+    """)
+    int markPending(@Param("ids") List<Long> ids);
+
+    /**
+     * PENDING → COMPLETED (READY 로 재예약된 건은 다시 발송될 예정이므로 완료 처리하지 않음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update MessageReservation mr
+    set mr.status = com.amore.aketer.domain.enums.MessageStatus.COMPLETED, mr.version = mr.version + 1, mr.updatedAt = CURRENT_TIMESTAMP
+    where mr.id in :ids and mr.status = com.amore.aketer.domain.enums.MessageStatus.PENDING
+    """)
+    int markCompleted(@Param("ids") List<Long> ids);
+
+    /**
+     * READY/PENDING → READY (재시도 가능 실패, retryCount 가 maxRetries 미만인 건만 retryAt 으로 재예약)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update MessageReservation mr
+    set mr.status = com.amore.aketer.domain.enums.MessageStatus.READY,
+        mr.retryCount = mr.retryCount + 1,
+        mr.scheduledAt = :retryAt,
+        mr.version = mr.version + 1,
+        mr.updatedAt = CURRENT_TIMESTAMP
+    where mr.id in :ids
+      and mr.status in (com.amore.aketer.domain.enums.MessageStatus.READY, com.amore.aketer.domain.enums.MessageStatus.PENDING)
+      and mr.retryCount < :maxRetries
+    """)
+    int scheduleRetry(@Param("ids") List<Long> ids, @Param("retryAt") LocalDateTime retryAt, @Param("maxRetries") int maxRetries);
+
+    /**
+     * READY/PENDING → FAILED (재시도 불가 실패)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update MessageReservation mr
+    set mr.status = com.amore.aketer.domain.enums.MessageStatus.FAILED, mr.version = mr.version + 1, mr.updatedAt = CURRENT_TIMESTAMP
+    where mr.id in :ids
+      and mr.status in (com.amore.aketer.domain.enums.MessageStatus.READY, com.amore.aketer.domain.enums.MessageStatus.PENDING)
+    """)
+    int markFailed(@Param("ids") List<Long> ids);
+
+    /**
+     * READY/PENDING → FAILED (재시도 가능 실패지만 retryCount 가 maxRetries 에 도달한 건)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update MessageReservation mr
+    set mr.status = com.amore.aketer.domain.enums.MessageStatus.FAILED, mr.version = mr.version + 1, mr.updatedAt = CURRENT_TIMESTAMP
+    where mr.id in :ids
+      and mr.status in (com.amore.aketer.domain.enums.MessageStatus.READY, com.amore.aketer.domain.enums.MessageStatus.PENDING)
+      and mr.retryCount >= :maxRetries
+    """)
+    int failExhausted(@Param("ids") List<Long> ids, @Param("maxRetries") int maxRetries);
+
+    /**
+     * PENDING 유지, updated_at 만 갱신 (보류/재시도로 재시도 큐에 들어간 건이 아직 살아 있음을 표시)
+     * - 상태가 바뀌지 않으므로 version 은 올리지 않음
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update MessageReservation mr
+    set mr.updatedAt = CURRENT_TIMESTAMP
+    where mr.id in :ids and mr.status = com.amore.aketer.domain.enums.MessageStatus.PENDING
+    """)
+    int touchPending(@Param("ids") List<Long> ids);
+
+    /**
+     * READY → CANCELED
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    update MessageReservation mr
+    set mr.status = com.amore.aketer.domain.enums.MessageStatus.CANCELED, mr.version = mr.version + 1, mr.updatedAt = CURRENT_TIMESTAMP
+    where mr.id in :ids and mr.status = com.amore.aketer.domain.enums.MessageStatus.READY
+    """)
+    int cancelReady(@Param("ids") List<Long> ids);
 
     List<MessageReservation> findByStatusOrderByScheduledAtDesc(MessageStatus status);
 
@@ -0,0 +1,48 @@
+package com.amore.aketer.domain.message;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 발송 멱등 원장 (reservationId + attempt 당 1행)
+ *
+ * - 발송 직전에 INSERT IGNORE 로 선점, 이미 행이 있으면 중복 전달로 보고 발송하지 않음
+ * - attempt 는 페이로드의 retryCount (재시도마다 새 키)
+ * - 보관 기간이 지난 행은 주기적으로 삭제
+ */
+@Entity
+@Table(name = "message_send_ledger", indexes = {
+        @Index(name = "idx_msg_send_ledger_created_at", columnList = "created_at")
+})
+@IdClass(MessageSendLedger.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MessageSendLedger {
+
+    @Id
+    @Column(name = "reservation_id")
+    private Long reservationId;
+
+    @Id
+    @Column(name = "attempt")
+    private int attempt;
+
+    // 선점한 배치 식별자 (같은 INSERT 에서 들어간 행인지 구분)
+    @Column(name = "claim_token", nullable = false, length = 36)
+    private String claimToken;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long reservationId;
+        private int attempt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.amore.aketer.domain.message;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MessageSendLedgerRepository extends JpaRepository<MessageSendLedger, MessageSendLedger.Key> {
+
+    List<MessageSendLedger> findByReservationIdIn(Collection<Long> reservationIds);
+
+    @Modifying
+    @Query("delete from MessageSendLedger l where l.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
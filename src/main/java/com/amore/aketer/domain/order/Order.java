@@ -18,6 +18,7 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_orders_user", columnList = "user_id"),
                 @Index(name = "idx_orders_item", columnList = "item_id"),
+                @Index(name = "idx_orders_user_item", columnList = "user_id, item_id"),
                 @Index(name = "idx_orders_ordered_at", columnList = "ordered_at")
         }
 )
@@ -1,11 +1,24 @@
 package com.amore.aketer.domain.user;
 
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    List<User> findByPersonaId(Long personaId);
+    /**
+     * 페르소나 멤버 id keyset 페이지 (afterId 다음부터 id 순으로 최대 limit 건)
+     * - 엔티티를 만들지 않고 id 만 조회, idx_users_persona_id(persona_id + PK) 만으로 처리
+     */
+    @Query("""
+    select u.id
+    from User u
+    where u.persona.id = :personaId and u.id > :afterId
+    order by u.id
+    """)
+    List<Long> findMemberIdsAfter(@Param("personaId") Long personaId, @Param("afterId") Long afterId, Limit limit);
 
     long countByPersona_Id(Long personaId);
-}
\ No newline at end of file
+}
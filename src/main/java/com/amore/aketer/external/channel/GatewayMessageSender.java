@@ -0,0 +1,136 @@
+package com.amore.aketer.external.channel;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.external.channel.dto.GatewaySendRequest;
+import com.amore.aketer.external.channel.dto.GatewaySendResponse;
+import com.amore.aketer.messaging.cache.MessageBodyCache;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import com.amore.aketer.messaging.dto.MessageResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP 발송 게이트웨이 sender (비동기, WebClient)
+ *
+ * - 게이트웨이별 전용 커넥션 풀: 최대 커넥션 수 = 동시 요청 상한, 초과 요청은 풀 대기열에서 대기 (스레드 점유 없음)
+ * - 응답 타임아웃 / 429·5xx·네트워크 오류는 재시도 가능, 그 외 4xx 는 재시도 불가 실패로 변환
+ * - {@link #sendBulk(List)} 는 동시 요청 상한만큼 병렬로 보내고 입력 순서대로 결과 반환
+ * - 논블로킹 발송은 배치 컨슈머 모드(sendBulk)에서만 이점이 있음, 단건 모드의 {@link #send(MessagePayload)} 는 응답까지 호출 스레드가 대기
+ * - 본문은 페이로드의 messageId 로 {@link MessageBodyCache} 에서 조회 (배치는 miss 건만 일괄 조회)
+ * - 구성: {@link com.amore.aketer.external.config.ExternalApiConfig} (aketer.external.mode=gateway)
+ */
+@Slf4j
+public class GatewayMessageSender implements MessageChannelSender, AutoCloseable {
+
+    private final ChannelType channelType;
+    private final WebClient webClient;
+    private final ConnectionProvider connectionProvider;
+    private final MessageBodyCache bodyCache;
+    private final String apiKey;
+    private final int maxConcurrency;
+    private final Duration timeout;
+
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+    private final AtomicLong successCount = new AtomicLong(0);
+    private final AtomicLong failureCount = new AtomicLong(0);
+
+    public GatewayMessageSender(ChannelType channelType, WebClient webClient, ConnectionProvider connectionProvider,
+                                MessageBodyCache bodyCache, String apiKey, int maxConcurrency, Duration timeout) {
+        this.channelType = channelType;
+        this.webClient = webClient;
+        this.connectionProvider = connectionProvider;
+        this.bodyCache = bodyCache;
+        this.apiKey = apiKey;
+        this.maxConcurrency = maxConcurrency;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 본문은 호출 스레드에서 미리 조회해 요청에 담음 (캐시 miss 시 DB 조회가 네트워크 이벤트 루프에서 일어나지 않도록)
+     */
+    @Override
+    public MessageResult send(MessagePayload payload) {
+        return post(request(payload)).block();
+    }
+
+    @Override
+    public List<MessageResult> sendBulk(List<MessagePayload> payloads) {
+        bodyCache.preload(payloads.stream().map(MessagePayload::getMessageId).toList());
+        List<GatewaySendRequest> requests = payloads.stream().map(this::request).toList();
+
+        return Flux.fromIterable(requests)
+                .flatMapSequential(this::post, maxConcurrency)
+                .collectList()
+                .block();
+    }
+
+    private GatewaySendRequest request(MessagePayload payload) {
+        return GatewaySendRequest.from(payload, bodyCache.get(payload.getMessageId()));
+    }
+
+    private Mono<MessageResult> post(GatewaySendRequest request) {
+        return webClient.post()
+                .uri("/v1/messages")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(GatewaySendResponse.class)
+                .timeout(timeout)
+                .map(response -> MessageResult.builder()
+                        .success(true)
+                        .messageId(response.getMessageId())
+                        .build())
+                .onErrorResume(WebClientResponseException.class, e -> Mono.just(failure(e)))
+                .onErrorResume(e -> Mono.just(MessageResult.builder()
+                        .success(false)
+                        .retryable(true)
+                        .errorCode(channelType + "_GATEWAY_IO_ERROR")
+                        .errorMessage(e.toString())
+                        .build()))
+                .doOnSubscribe(s -> inFlight.incrementAndGet())
+                .doOnNext(result -> (result.isSuccess() ? successCount : failureCount).incrementAndGet())
+                .doFinally(signal -> inFlight.decrementAndGet());
+    }
+
+    @Override
+    public ChannelType getChannelType() {
+        return channelType;
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        return Map.of(
+                "inFlight", (long) inFlight.get(),
+                "success", successCount.get(),
+                "failure", failureCount.get()
+        );
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    private MessageResult failure(WebClientResponseException e) {
+        int status = e.getStatusCode().value();
+        boolean retryable = status == 429 || e.getStatusCode().is5xxServerError();
+        log.warn("[{} 게이트웨이] 전송 실패 - status: {}, body: {}", channelType, status, e.getResponseBodyAsString());
+
+        return MessageResult.builder()
+                .success(false)
+                .retryable(retryable)
+                .errorCode(channelType + "_HTTP_" + status)
+                .errorMessage(e.getMessage())
+                .build();
+    }
+}
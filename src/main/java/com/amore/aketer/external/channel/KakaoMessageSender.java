@@ -4,11 +4,14 @@ import com.amore.aketer.domain.enums.ChannelType;
 import com.amore.aketer.messaging.dto.MessagePayload;
 import com.amore.aketer.messaging.dto.MessageResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
 
+// aketer.external.mode=gateway 이면 HTTP 게이트웨이 sender 사용 (ExternalApiConfig)
 @Component
+@ConditionalOnProperty(name = "aketer.external.mode", havingValue = "mock", matchIfMissing = true)
 @Slf4j
 public class KakaoMessageSender implements MessageChannelSender {
 
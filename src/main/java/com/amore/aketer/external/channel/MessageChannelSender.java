@@ -4,9 +4,19 @@ import com.amore.aketer.domain.enums.ChannelType;
 import com.amore.aketer.messaging.dto.MessagePayload;
 import com.amore.aketer.messaging.dto.MessageResult;
 
+import java.util.List;
+
 public interface MessageChannelSender {
 
     MessageResult send(MessagePayload payload);
 
+    /**
+     * 일괄 전송 (입력 순서와 같은 순서로 결과 반환)
+     * - 기본 구현은 건별 전송, 대량 발송 API 를 제공하는 게이트웨이는 1회 호출로 구현
+     */
+    default List<MessageResult> sendBulk(List<MessagePayload> payloads) {
+        return payloads.stream().map(this::send).toList();
+    }
+
     ChannelType getChannelType();
 }
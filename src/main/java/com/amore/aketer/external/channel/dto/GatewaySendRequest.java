@@ -0,0 +1,36 @@
+package com.amore.aketer.external.channel.dto;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.messaging.cache.MessageBodyCache;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GatewaySendRequest {
+
+    private Long reservationId;
+    private Long personaId;
+    private ChannelType channelType;
+    private String to;
+    private String title;
+    private String body;
+    private String traceId;
+
+    public static GatewaySendRequest from(MessagePayload payload, MessageBodyCache.MessageBody messageBody) {
+        return GatewaySendRequest.builder()
+                .reservationId(payload.getReservationId())
+                .personaId(payload.getPersonaId())
+                .channelType(payload.getChannelType())
+                .to(payload.getChannelAddress())
+                .title(messageBody.title())
+                .body(messageBody.body())
+                .traceId(payload.getTraceId())
+                .build();
+    }
+}
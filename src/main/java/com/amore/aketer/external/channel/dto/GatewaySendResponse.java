@@ -0,0 +1,17 @@
+package com.amore.aketer.external.channel.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GatewaySendResponse {
+
+    private String messageId;
+    private String resultCode;
+    private String resultMessage;
+}
@@ -1,13 +1,22 @@
 package com.amore.aketer.external.config;
 
 import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.external.channel.GatewayMessageSender;
 import com.amore.aketer.external.channel.MessageChannelSender;
+import com.amore.aketer.messaging.cache.MessageBodyCache;
+import io.netty.channel.ChannelOption;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,6 +33,50 @@ public class ExternalApiConfig {
                 ));
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "aketer.external.mode", havingValue = "gateway")
+    public GatewayMessageSender kakaoGatewaySender(Environment environment, MessageBodyCache bodyCache) {
+        return gatewaySender(ChannelType.KAKAO, "kakao", environment, bodyCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "aketer.external.mode", havingValue = "gateway")
+    public GatewayMessageSender smsGatewaySender(Environment environment, MessageBodyCache bodyCache) {
+        return gatewaySender(ChannelType.SMS, "sms", environment, bodyCache);
+    }
+
+    /**
+     * 게이트웨이별 전용 커넥션 풀 + 타임아웃 설정 (aketer.external.{provider}.*)
+     */
+    private GatewayMessageSender gatewaySender(ChannelType channelType, String provider, Environment environment,
+                                               MessageBodyCache bodyCache) {
+        String prefix = "aketer.external." + provider + ".";
+        int maxConcurrency = environment.getProperty(prefix + "max-concurrency", Integer.class, 200);
+        int maxPending = environment.getProperty(prefix + "max-pending", Integer.class, 10_000);
+        Duration timeout = Duration.ofMillis(environment.getProperty(prefix + "timeout", Long.class, 3_000L));
+        int connectTimeout = environment.getProperty("aketer.external.connect-timeout", Integer.class, 2_000);
+
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(provider + "-gateway")
+                .maxConnections(maxConcurrency)
+                .pendingAcquireMaxCount(maxPending)
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout)
+                .responseTimeout(timeout);
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl(environment.getRequiredProperty(prefix + "api-url"))
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        return new GatewayMessageSender(channelType, webClient, connectionProvider, bodyCache,
+                environment.getProperty(prefix + "api-key", ""), maxConcurrency, timeout);
+    }
+
     @Bean
     public WebClient webClient() {
         return WebClient.builder()
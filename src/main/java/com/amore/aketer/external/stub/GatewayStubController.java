@@ -0,0 +1,84 @@
+package com.amore.aketer.external.stub;
+
+import com.amore.aketer.external.channel.dto.GatewaySendRequest;
+import com.amore.aketer.external.channel.dto.GatewaySendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 발송 게이트웨이 스텁 (오프라인 부하 테스트용)
+ *
+ * - gateway-stub 프로필에서만 활성화, /stub/{provider}/v1/messages 로 실제 게이트웨이 응답을 흉내냄
+ * - 지연(latency ± jitter)은 Mono.delay 로 처리해 요청당 스레드를 점유하지 않음
+ * - throttle-rate 비율로 429, failure-rate 비율로 503, reject-rate 비율로 400(수신자 오류) 응답
+ *
+ * 사용 예: --spring.profiles.active=gateway-stub --aketer.external.mode=gateway
+ *         --aketer.external.kakao.api-url=http://localhost:8080/stub/kakao
+ */
+@Slf4j
+@Profile("gateway-stub")
+@RestController
+@RequestMapping("/stub/{provider}/v1/messages")
+public class GatewayStubController {
+
+    @Value("${aketer.external.stub.latency:50}")
+    private long latencyMillis;
+
+    @Value("${aketer.external.stub.jitter:20}")
+    private long jitterMillis;
+
+    @Value("${aketer.external.stub.failure-rate:0.05}")
+    private double failureRate;
+
+    @Value("${aketer.external.stub.throttle-rate:0.01}")
+    private double throttleRate;
+
+    @Value("${aketer.external.stub.reject-rate:0}")
+    private double rejectRate;
+
+    @PostMapping
+    public Mono<ResponseEntity<GatewaySendResponse>> send(@PathVariable String provider,
+                                                          @RequestBody GatewaySendRequest request) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = Math.max(0, latencyMillis + (jitterMillis > 0 ? random.nextLong(-jitterMillis, jitterMillis + 1) : 0));
+        double roll = random.nextDouble();
+
+        return Mono.delay(Duration.ofMillis(delay))
+                .map(tick -> {
+                    if (roll < throttleRate) {
+                        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                .body(response(null, "THROTTLED", "stub rate limit"));
+                    }
+                    if (roll < throttleRate + failureRate) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .body(response(null, "UNAVAILABLE", "stub gateway error"));
+                    }
+                    if (roll < throttleRate + failureRate + rejectRate) {
+                        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                                .body(response(null, "INVALID_RECIPIENT", "stub invalid recipient"));
+                    }
+                    return ResponseEntity.ok(response(provider.toUpperCase() + "-" + UUID.randomUUID(), "OK", null));
+                });
+    }
+
+    private static GatewaySendResponse response(String messageId, String resultCode, String resultMessage) {
+        return GatewaySendResponse.builder()
+                .messageId(messageId)
+                .resultCode(resultCode)
+                .resultMessage(resultMessage)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.amore.aketer.messaging.cache;
+
+import com.amore.aketer.common.cache.TtlLruCache;
+import com.amore.aketer.domain.message.Message;
+import com.amore.aketer.domain.message.MessageRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 발송 본문 캐시 (Message.id → 제목/본문)
+ *
+ * - 페이로드에는 본문 대신 messageId 만 싣고, 발송 시점에 이 캐시에서 본문 조회
+ * - 같은 메시지를 여러 고객에게 보내므로 첫 조회 이후에는 DB 를 읽지 않음
+ * - 배치 전송은 {@link #preload(Collection)} 로 miss 건만 한 번의 IN 조회로 채움
+ * - 생성된 메시지 본문은 수정되지 않으므로 TTL 은 메모리 회수 용도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageBodyCache {
+
+    private final MessageRepository messageRepository;
+
+    @Value("${aketer.messaging.body-cache.ttl:3600000}")
+    private long ttlMillis;
+
+    @Value("${aketer.messaging.body-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private TtlLruCache<Long, MessageBody> cache;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @PostConstruct
+    private void init() {
+        cache = new TtlLruCache<>(maxEntries, ttlMillis);
+    }
+
+    public MessageBody get(Long messageId) {
+        MessageBody cached = cache.get(messageId);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        return cache.computeIfAbsent(messageId, id -> messageRepository.findById(id)
+                .map(MessageBody::from)
+                .orElseThrow(() -> new IllegalStateException("메시지를 찾을 수 없습니다: " + id)));
+    }
+
+    /**
+     * 캐시에 없는 messageId 만 모아 한 번에 조회
+     */
+    public void preload(Collection<Long> messageIds) {
+        List<Long> missing = messageIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .filter(id -> cache.get(id) == null)
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        for (Message message : messageRepository.findAllById(missing)) {
+            cache.put(message.getId(), MessageBody.from(message));
+        }
+        log.debug("발송 본문 캐시 적재: {}건", missing.size());
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        return Map.of(
+                "size", (long) cache.size(),
+                "hit", hitCount.sum(),
+                "miss", missCount.sum()
+        );
+    }
+
+    public record MessageBody(String title, String body) {
+
+        static MessageBody from(Message message) {
+            return new MessageBody(message.getTitle(), message.getBody());
+        }
+    }
+}
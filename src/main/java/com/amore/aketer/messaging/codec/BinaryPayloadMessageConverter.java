@@ -0,0 +1,42 @@
+package com.amore.aketer.messaging.codec;
+
+import com.amore.aketer.messaging.dto.MessagePayload;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * {@link MessagePayload} 는 {@link MessagePayloadCodec} 바이너리로, 그 외 객체는 위임 컨버터(JSON)로 변환
+ *
+ * - 수신 시 content-type 으로 구분하므로 전환 전에 적재된 JSON 메시지도 그대로 처리
+ */
+public class BinaryPayloadMessageConverter implements MessageConverter {
+
+    public static final String CONTENT_TYPE = "application/vnd.aketer.payload.v1";
+
+    private final MessageConverter delegate;
+
+    public BinaryPayloadMessageConverter(MessageConverter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Message toMessage(Object object, MessageProperties messageProperties) throws MessageConversionException {
+        if (!(object instanceof MessagePayload payload)) {
+            return delegate.toMessage(object, messageProperties);
+        }
+        byte[] body = MessagePayloadCodec.encode(payload);
+        messageProperties.setContentType(CONTENT_TYPE);
+        messageProperties.setContentLength(body.length);
+        return new Message(body, messageProperties);
+    }
+
+    @Override
+    public Object fromMessage(Message message) throws MessageConversionException {
+        if (CONTENT_TYPE.equals(message.getMessageProperties().getContentType())) {
+            return MessagePayloadCodec.decode(message.getBody());
+        }
+        return delegate.fromMessage(message);
+    }
+}
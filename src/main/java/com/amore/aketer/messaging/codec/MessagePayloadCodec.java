@@ -0,0 +1,176 @@
+package com.amore.aketer.messaging.codec;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * {@link MessagePayload} 바이너리 코덱
+ *
+ * 스키마 v1 (필드 순서 고정, 필드 추가/변경 시 VERSION 을 올리고 이전 버전 디코딩 유지)
+ * <pre>
+ * byte     version
+ * varlong  reservationId + 1   (0 = null, 이하 nullable 숫자 동일)
+ * varlong  personaId + 1
+ * varlong  messageId + 1
+ * byte     channelType ordinal + 1
+ * varint   retryCount
+ * varlong  version + 1
+ * byte     traceId 형식 (0 = null, 1 = UUID 16바이트, 2 = UTF-8 문자열)
+ * ...      traceId
+ * varint   channelAddress UTF-8 길이 + 1, 이후 바이트
+ * </pre>
+ * ChannelType 은 ordinal 로 쓰므로 상수 순서를 바꾸지 말고 뒤에만 추가할 것
+ */
+public final class MessagePayloadCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final byte TRACE_NULL = 0;
+    private static final byte TRACE_UUID = 1;
+    private static final byte TRACE_STRING = 2;
+
+    private static final ChannelType[] CHANNEL_TYPES = ChannelType.values();
+
+    private MessagePayloadCodec() {
+    }
+
+    public static byte[] encode(MessagePayload payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+
+        out.write(VERSION);
+        writeNullableLong(out, payload.getReservationId());
+        writeNullableLong(out, payload.getPersonaId());
+        writeNullableLong(out, payload.getMessageId());
+        out.write(payload.getChannelType() == null ? 0 : payload.getChannelType().ordinal() + 1);
+        writeVarLong(out, payload.getRetryCount());
+        writeNullableLong(out, payload.getVersion());
+        writeTraceId(out, payload.getTraceId());
+        writeString(out, payload.getChannelAddress());
+
+        return out.toByteArray();
+    }
+
+    public static MessagePayload decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new MessageConversionException("지원하지 않는 페이로드 버전: " + version);
+            }
+
+            Long reservationId = readNullableLong(in);
+            Long personaId = readNullableLong(in);
+            Long messageId = readNullableLong(in);
+            int channelType = in.get();
+
+            return MessagePayload.builder()
+                    .reservationId(reservationId)
+                    .personaId(personaId)
+                    .messageId(messageId)
+                    .channelType(channelType == 0 ? null : CHANNEL_TYPES[channelType - 1])
+                    .retryCount((int) readVarLong(in))
+                    .version(readNullableLong(in))
+                    .traceId(readTraceId(in))
+                    .channelAddress(readString(in))
+                    .build();
+        } catch (RuntimeException e) {
+            if (e instanceof MessageConversionException conversionException) {
+                throw conversionException;
+            }
+            throw new MessageConversionException("페이로드 디코딩 실패 (" + bytes.length + " bytes)", e);
+        }
+    }
+
+    private static void writeTraceId(ByteArrayOutputStream out, String traceId) {
+        if (traceId == null) {
+            out.write(TRACE_NULL);
+            return;
+        }
+        // 발급되는 traceId 는 UUID 이므로 36자 문자열 대신 16바이트로 기록
+        if (traceId.length() == 36) {
+            try {
+                UUID uuid = UUID.fromString(traceId);
+                if (uuid.toString().equals(traceId)) {
+                    out.write(TRACE_UUID);
+                    out.writeBytes(ByteBuffer.allocate(16)
+                            .putLong(uuid.getMostSignificantBits())
+                            .putLong(uuid.getLeastSignificantBits())
+                            .array());
+                    return;
+                }
+            } catch (IllegalArgumentException ignored) {
+                // UUID 형식이 아니면 문자열로 기록
+            }
+        }
+        out.write(TRACE_STRING);
+        writeString(out, traceId);
+    }
+
+    private static String readTraceId(ByteBuffer in) {
+        byte type = in.get();
+        return switch (type) {
+            case TRACE_NULL -> null;
+            case TRACE_UUID -> new UUID(in.getLong(), in.getLong()).toString();
+            case TRACE_STRING -> readString(in);
+            default -> throw new MessageConversionException("알 수 없는 traceId 형식: " + type);
+        };
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in);
+        if (length == 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length - 1];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableLong(ByteArrayOutputStream out, Long value) {
+        writeVarLong(out, value == null ? 0 : value + 1);
+    }
+
+    private static Long readNullableLong(ByteBuffer in) {
+        long value = readVarLong(in);
+        return value == 0 ? null : value - 1;
+    }
+
+    /**
+     * 부호 없는 LEB128 (7비트씩, 상위 비트 = 다음 바이트 존재)
+     */
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new MessageConversionException("varint 길이 초과");
+    }
+}
@@ -1,34 +1,45 @@
 package com.amore.aketer.messaging.config;
 
+import com.amore.aketer.messaging.codec.BinaryPayloadMessageConverter;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import com.amore.aketer.messaging.retry.RetryBackoff;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 public class RabbitMqConfig {
 
     public static final String MESSAGE_QUEUE = "aketer.message.queue";
-    public static final String MESSAGE_RETRY_QUEUE = "aketer.message.retry.queue";
     public static final String MESSAGE_DLQ = "aketer.message.dlq";
 
     public static final String MESSAGE_EXCHANGE = "aketer.message.exchange";
     public static final String DLQ_EXCHANGE = "aketer.message.dlq.exchange";
+    public static final String RETRY_DELAYED_EXCHANGE = "aketer.message.retry.delayed.exchange";
 
     public static final String ROUTING_KEY = "message.send";
-    public static final String RETRY_ROUTING_KEY = "message.retry";
     public static final String DLQ_ROUTING_KEY = "message.failed";
 
-    public static final long RETRY_DELAY_1 = 60_000;  // 60초
-    public static final long RETRY_DELAY_2 = 120_000; // 120초
-    public static final long RETRY_DELAY_3 = 240_000; // 240초
+    public static final String BATCH_LISTENER_FACTORY = "batchListenerContainerFactory";
 
     @Bean
     public Queue messageQueue() {
@@ -36,12 +47,33 @@ public class RabbitMqConfig {
                 .build();
     }
 
+    /**
+     * 재시도 토폴로지 ({@link RetryBackoff})
+     * - ttl-queues: 백오프 단계마다 고정 TTL 큐 → 만료 시 메인 큐로 dead-letter (큐 안의 지연이 같아 head-of-line 지연 없음)
+     * - delayed-exchange: x-delayed-message 교환기에서 메시지별 x-delay 후 메인 큐로 라우팅 (플러그인 필요)
+     */
     @Bean
-    public Queue messageRetryQueue() {
-        return QueueBuilder.durable(MESSAGE_RETRY_QUEUE)
-                .deadLetterExchange(MESSAGE_EXCHANGE)
-                .deadLetterRoutingKey(ROUTING_KEY)
-                .build();
+    public Declarables retryDeclarables(RetryBackoff retryBackoff) {
+        List<Declarable> declarables = new ArrayList<>();
+
+        if (retryBackoff.isDelayedExchange()) {
+            CustomExchange delayedExchange = new CustomExchange(
+                    RETRY_DELAYED_EXCHANGE, "x-delayed-message", true, false, Map.of("x-delayed-type", "direct"));
+            declarables.add(delayedExchange);
+            declarables.add(BindingBuilder.bind(messageQueue()).to(delayedExchange).with(ROUTING_KEY).noargs());
+            return new Declarables(declarables);
+        }
+
+        for (long tierDelay : retryBackoff.getTierDelays()) {
+            Queue retryQueue = QueueBuilder.durable(RetryBackoff.queueName(tierDelay))
+                    .ttl((int) tierDelay)
+                    .deadLetterExchange(MESSAGE_EXCHANGE)
+                    .deadLetterRoutingKey(ROUTING_KEY)
+                    .build();
+            declarables.add(retryQueue);
+            declarables.add(BindingBuilder.bind(retryQueue).to(messageExchange()).with(RetryBackoff.routingKey(tierDelay)));
+        }
+        return new Declarables(declarables);
     }
 
     @Bean
@@ -67,13 +99,6 @@ public class RabbitMqConfig {
                 .with(ROUTING_KEY);
     }
 
-    @Bean
-    public Binding bindingRetryQueue() {
-        return BindingBuilder.bind(messageRetryQueue())
-                .to(messageExchange())
-                .with(RETRY_ROUTING_KEY);
-    }
-
     @Bean
     public Binding bindingDlq() {
         return BindingBuilder.bind(messageDlq())
@@ -81,15 +106,45 @@ public class RabbitMqConfig {
                 .with(DLQ_ROUTING_KEY);
     }
 
+    /**
+     * 배치 컨슈머용 리스너 팩토리
+     * - 최대 batch-size 건을 모아(또는 receive-timeout 경과 시) 한 번에 전달, 메시지별 수동 ack/nack
+     */
+    @Bean(BATCH_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory batchListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${aketer.messaging.consumer.batch.size:100}") int batchSize,
+            @Value("${aketer.messaging.consumer.batch.receive-timeout:1000}") long receiveTimeout) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setReceiveTimeout(receiveTimeout);
+        // 배치를 채울 수 있도록 prefetch 를 배치 크기만큼
+        factory.setPrefetchCount(batchSize);
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    /**
+     * 발송 페이로드 직렬화 형식 (aketer.messaging.wire-format)
+     * - binary: {@link MessagePayload} 는 버전 바이너리 코덱, 그 외는 JSON (수신은 content-type 으로 두 형식 모두 처리)
+     * - json: 전부 JSON
+     */
     @Bean
-    public MessageConverter messageConverter() {
-        return new Jackson2JsonMessageConverter();
+    public MessageConverter messageConverter(@Value("${aketer.messaging.wire-format:binary}") String wireFormat) {
+        MessageConverter json = new Jackson2JsonMessageConverter();
+        return "binary".equals(wireFormat) ? new BinaryPayloadMessageConverter(json) : json;
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate rabbitTemplate = new RabbitTemplate(connectionFactory);
-        rabbitTemplate.setMessageConverter(messageConverter());
+        rabbitTemplate.setMessageConverter(messageConverter);
+        // 라우팅되지 않은 메시지를 return 받아 CorrelationData 에 기록 (publisher confirm 과 함께 유실 판단)
+        rabbitTemplate.setMandatory(true);
         return rabbitTemplate;
     }
 }
@@ -4,13 +4,21 @@ import com.amore.aketer.messaging.config.RabbitMqConfig;
 import com.amore.aketer.messaging.dto.MessagePayload;
 import com.amore.aketer.messaging.dto.MessageResult;
 import com.amore.aketer.messaging.publisher.MessagePublisher;
+import com.amore.aketer.messaging.retry.RetryBackoff;
 import com.amore.aketer.service.MessageSendService;
+import com.amore.aketer.service.ReservationStatusBuffer;
+import com.rabbitmq.client.Channel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -18,20 +26,19 @@ public class MessageConsumer {
 
     private final MessageSendService sendService;
     private final MessagePublisher publisher;
+    private final RetryBackoff retryBackoff;
+    private final ReservationStatusBuffer statusBuffer;
 
-    @RabbitListener(queues = RabbitMqConfig.MESSAGE_QUEUE)
+    // aketer.messaging.consumer.batch.enabled 에 따라 단건/배치 리스너 중 하나만 기동
+    @RabbitListener(queues = RabbitMqConfig.MESSAGE_QUEUE,
+            autoStartup = "#{!${aketer.messaging.consumer.batch.enabled:false}}")
     public void consumeMessage(MessagePayload payload, @Header(name = "retryCount", required = false) Integer headerRetryCount) {
 
         log.info("메시지큐 처리: reservationId={}, retryCount={}", payload.getReservationId(), payload.getRetryCount());
 
         try {
             MessageResult result = sendService.sendMessage(payload);
-
-            if (!result.isSuccess() && result.isRetryable()) {
-                handleRetry(payload);
-            } else if (!result.isSuccess()) {
-                publisher.publishToDlq(payload, "Non-retryable error: " + result.getErrorMessage());
-            }
+            handleResult(payload, result);
 
         } catch (Exception e) {
             log.error("메시지 처리 중 예상치 못한 오류 발생: reservationId={}", payload.getReservationId(), e);
@@ -39,11 +46,89 @@ public class MessageConsumer {
         }
     }
 
+    /**
+     * 배치 모드: 최대 batch-size 건을 채널별로 묶어 일괄 전송, 예약 상태는 배치 단위 벌크 UPDATE
+     * - 결과 처리(재시도 큐/DLQ 적재)까지 끝나면 ack
+     * - 발송 후 단계(상태 반영/리포트/결과 처리)에서 오류가 나면 이미 게이트웨이를 호출했으므로 재전달하지 않고
+     *   사유와 함께 DLQ 로 보낸 뒤 ack (재전달하면 재발송되거나, 원장이 중복으로 폐기해 재시도/DLQ 적재가 유실됨)
+     */
+    @RabbitListener(queues = RabbitMqConfig.MESSAGE_QUEUE,
+            containerFactory = RabbitMqConfig.BATCH_LISTENER_FACTORY,
+            autoStartup = "${aketer.messaging.consumer.batch.enabled:false}")
+    public void consumeMessages(List<Message<MessagePayload>> messages, Channel channel) {
+
+        log.info("메시지큐 배치 처리: {}건", messages.size());
+
+        List<MessagePayload> payloads = messages.stream().map(Message::getPayload).toList();
+
+        List<MessageResult> results;
+        try {
+            results = sendService.sendMessages(payloads);
+        } catch (Exception e) {
+            log.error("메시지 배치 처리 중 예상치 못한 오류 발생: {}건", messages.size(), e);
+            for (int i = 0; i < messages.size(); i++) {
+                routeToDlq(channel, messages.get(i), payloads.get(i), "발송 후 처리 실패: " + e.getMessage());
+            }
+            return;
+        }
+
+        for (int i = 0; i < messages.size(); i++) {
+            MessagePayload payload = payloads.get(i);
+            try {
+                handleResult(payload, results.get(i));
+                ack(channel, messages.get(i));
+            } catch (Exception e) {
+                log.error("메시지 결과 처리 실패: reservationId={}", payload.getReservationId(), e);
+                routeToDlq(channel, messages.get(i), payload, "결과 처리 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private void handleResult(MessagePayload payload, MessageResult result) {
+        if (result.isDuplicate()) {
+            // 이미 같은 attempt 로 발송된 중복 전달: 재시도/DLQ 없이 ack 만
+            log.debug("중복 전달 폐기: reservationId={}, retryCount={}", payload.getReservationId(), payload.getRetryCount());
+        } else if (result.isDeferred()) {
+            // 회로 차단으로 보류된 건: 재시도 횟수를 올리지 않고 회로가 열려 있는 동안 재시도 큐에서 대기
+            // (예약은 PENDING 에 남으므로 updated_at 을 갱신해 결과 유실 정리 대상에서 제외)
+            statusBuffer.touch(payload.getReservationId());
+            publisher.publishToRetryQueue(payload, result.getRetryAfterMillis());
+        } else if (!result.isSuccess() && result.isRetryable()) {
+            handleRetry(payload);
+        } else if (!result.isSuccess()) {
+            publisher.publishToDlq(payload, "Non-retryable error: " + result.getErrorMessage());
+        }
+    }
+
+    private void ack(Channel channel, Message<?> message) {
+        try {
+            channel.basicAck(deliveryTag(message), false);
+        } catch (IOException e) {
+            log.error("메시지 ack 실패: deliveryTag={}", deliveryTag(message), e);
+        }
+    }
+
+    /**
+     * 발송 후 오류가 난 메시지를 DLQ 로 보내고 ack (DLQ 적재도 실패하면 예약 상태에 남은 결과로만 추적)
+     */
+    private void routeToDlq(Channel channel, Message<?> message, MessagePayload payload, String reason) {
+        try {
+            publisher.publishToDlq(payload, reason);
+        } catch (Exception e) {
+            log.error("DLQ 적재 실패: reservationId={}", payload.getReservationId(), e);
+        }
+        ack(channel, message);
+    }
+
+    private static long deliveryTag(Message<?> message) {
+        return (Long) message.getHeaders().get(AmqpHeaders.DELIVERY_TAG);
+    }
+
     private void handleRetry(MessagePayload payload) {
         int currentRetry = payload.getRetryCount();
 
-        // 최대 3번까지 재시도
-        if (currentRetry >= 3) {
+        // 최대 max-attempts 번까지 재시도
+        if (currentRetry >= retryBackoff.getMaxAttempts()) {
             log.warn("최대 재시도 횟수 초과: reservationId={}", payload.getReservationId());
             publisher.publishToDlq(payload, "최대 재시도 횟수 초과");
             return;
@@ -51,15 +136,8 @@ public class MessageConsumer {
 
         MessagePayload retryPayload = MessagePayload.from(payload, currentRetry + 1);
 
-        long delay = calculateRetryDelay(currentRetry);
+        long delay = retryBackoff.delayFor(currentRetry);
+        statusBuffer.touch(payload.getReservationId());
         publisher.publishToRetryQueue(retryPayload, delay);
     }
-
-    private long calculateRetryDelay(int currentRetry) {
-        return switch (currentRetry) {
-            case 0 -> RabbitMqConfig.RETRY_DELAY_1;
-            case 1 -> RabbitMqConfig.RETRY_DELAY_2;
-            default -> RabbitMqConfig.RETRY_DELAY_3;
-        };
-    }
 }
@@ -17,7 +17,9 @@ public class MessagePayload implements Serializable {
 
     private Long reservationId;
     private Long personaId;
+    private Long messageId; // 본문은 싣지 않고 MessageBodyCache 에서 조회
     private ChannelType channelType;
+    private String channelAddress;
     private int retryCount;
     private Long version;
     private String traceId;
@@ -26,7 +28,9 @@ public class MessagePayload implements Serializable {
         return MessagePayload.builder()
                 .reservationId(messageReservation.getId())
                 .personaId(messageReservation.getPersona().getId())
+                .messageId(messageReservation.getMessage().getId())
                 .channelType(messageReservation.getChannelType())
+                .channelAddress(messageReservation.getChannelAddress())
                 .retryCount(messageReservation.getRetryCount())
                 .traceId(traceId)
                 .build();
@@ -36,7 +40,9 @@ public class MessagePayload implements Serializable {
         return MessagePayload.builder()
                 .reservationId(original.reservationId)
                 .personaId(original.personaId)
+                .messageId(original.messageId)
                 .channelType(original.channelType)
+                .channelAddress(original.channelAddress)
                 .retryCount(newRetryCount)
                 .version(original.version)
                 .traceId(original.traceId)
@@ -12,4 +12,16 @@ public class MessageResult {
     private String errorCode;
     private String errorMessage;
     private boolean retryable;
+
+    // 회로 차단 등으로 발송을 시도하지 않고 보류한 결과 (예약 상태/재시도 횟수 미반영, retryAfterMillis 후 재시도)
+    private boolean deferred;
+    private long retryAfterMillis;
+
+    // 이미 같은 attempt 로 발송된 중복 전달이라 발송하지 않은 결과 (예약 상태/리포트/재시도 모두 미반영)
+    private boolean duplicate;
+
+    // 발송 시도 결과인지 (보류/중복이 아닌 경우만 예약 상태와 리포트에 반영)
+    public boolean isAttempted() {
+        return !deferred && !duplicate;
+    }
 }
@@ -0,0 +1,114 @@
+package com.amore.aketer.messaging.guard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 채널별 동시 발송 한도 (AIMD)
+ *
+ * - 성공: 한도 += 성공 건수 / 한도 (한도만큼 성공할 때마다 +1, additive increase)
+ * - 재시도 가능 실패 포함: 한도 *= decrease-ratio (multiplicative decrease)
+ * - 한도를 넘는 발송은 timeout 까지 대기
+ */
+class AimdConcurrencyLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final double decreaseRatio;
+
+    private double limit;
+    private int inFlight;
+
+    private long decreaseCount;
+    private long timeoutCount;
+
+    AimdConcurrencyLimiter(double initialLimit, double minLimit, double maxLimit, double decreaseRatio) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.decreaseRatio = decreaseRatio;
+    }
+
+    /**
+     * 한 번에 발송할 최대 건수 (현재 한도)
+     */
+    int chunkSize() {
+        lock.lock();
+        try {
+            return Math.max(1, (int) limit);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * permits 건 발송 허가 대기 (실행 중인 발송이 없으면 한도와 무관하게 허가)
+     *
+     * @return timeout 내에 허가받지 못하면 false
+     */
+    boolean acquire(int permits, long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (inFlight > 0 && inFlight + permits > (int) limit) {
+                if (remaining <= 0) {
+                    timeoutCount++;
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight += permits;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(int permits, int successes, boolean overloaded) {
+        lock.lock();
+        try {
+            inFlight -= permits;
+            if (overloaded) {
+                limit = Math.max(minLimit, limit * decreaseRatio);
+                decreaseCount++;
+            } else {
+                limit = Math.min(maxLimit, limit + successes / limit);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 회로 회복 직후: 최소 한도부터 다시 늘려 처리량을 점진적으로 복구
+     */
+    void restart() {
+        lock.lock();
+        try {
+            limit = minLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    Map<String, Object> getCurrentStats() {
+        lock.lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("limit", limit);
+            stats.put("inFlight", inFlight);
+            stats.put("decreases", decreaseCount);
+            stats.put("acquireTimeouts", timeoutCount);
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.amore.aketer.messaging.guard;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 채널별 회로 차단기
+ *
+ * - CLOSED: 최근 window-size 건 중 재시도 가능 실패 비율이 failure-rate 이상이면(min-calls 이상일 때) OPEN
+ * - OPEN: open-duration 동안 게이트웨이를 호출하지 않음 (메시지는 재시도 경로로 보류)
+ * - HALF_OPEN: half-open-probes 건만 시험 발송, 재시도 가능 실패 없이 전부 끝나면 CLOSED / 하나라도 재시도 가능 실패면 다시 OPEN
+ *   (재시도 불가 실패는 게이트웨이가 응답한 것이므로 완료로 셈, 발송하지 못한 시험 자리는 {@link #cancel(int)} 로 반납)
+ */
+class ChannelCircuitBreaker {
+
+    enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenProbes;
+
+    // 최근 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesIssued;
+    private int probesCompleted;
+
+    private long openCount;
+    private long deferredCount;
+
+    ChannelCircuitBreaker(int windowSize, int minCalls, double failureRateThreshold, long openDurationMillis, int halfOpenProbes) {
+        this.window = new boolean[windowSize];
+        this.minCalls = minCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 요청 건수 중 지금 발송해도 되는 건수 (나머지는 보류)
+     */
+    synchronized int permits(int requested) {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openDurationMillis) {
+                deferredCount += requested;
+                return 0;
+            }
+            state = State.HALF_OPEN;
+            probesIssued = 0;
+            probesCompleted = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            int allowed = Math.max(0, Math.min(requested, halfOpenProbes - probesIssued));
+            probesIssued += allowed;
+            deferredCount += requested - allowed;
+            return allowed;
+        }
+
+        return requested;
+    }
+
+    /**
+     * 허가받았지만 발송하지 못한 건 반납 (HALF_OPEN 시험 발송 자리 회수)
+     */
+    synchronized void cancel(int permits) {
+        if (state == State.HALF_OPEN) {
+            probesIssued = Math.max(0, probesIssued - permits);
+        }
+    }
+
+    /**
+     * 발송 결과 반영
+     *
+     * @param completed 결과를 받은 건수 (성공 / 재시도 가능 실패 / 재시도 불가 실패 합계)
+     * @param failures  그중 재시도 가능 실패 건수
+     * @return HALF_OPEN → CLOSED 로 회복했으면 true
+     */
+    synchronized boolean record(int completed, int successes, int failures) {
+        if (state == State.HALF_OPEN) {
+            if (failures > 0) {
+                open();
+                return false;
+            }
+            probesCompleted += completed;
+            if (probesCompleted >= halfOpenProbes) {
+                close();
+                return true;
+            }
+            return false;
+        }
+
+        if (state == State.OPEN) {
+            // OPEN 전에 나간 요청의 늦은 결과
+            return false;
+        }
+
+        for (int i = 0; i < successes + failures; i++) {
+            push(i < failures);
+        }
+        if (windowCount >= minCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+            open();
+        }
+        return false;
+    }
+
+    /**
+     * 보류된 메시지의 재시도 대기 시간
+     * - OPEN: 남은 차단 시간 / HALF_OPEN: 시험 발송 결과를 기다리는 동안 차단 시간의 1/4
+     */
+    synchronized long retryAfterMillis() {
+        long remaining = openedAt + openDurationMillis - System.currentTimeMillis();
+        return Math.max(openDurationMillis / 4, remaining);
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized Map<String, Object> getCurrentStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("failureRate", windowCount == 0 ? 0.0 : (double) windowFailures / windowCount);
+        stats.put("windowCount", windowCount);
+        stats.put("openCount", openCount);
+        stats.put("deferred", deferredCount);
+        return stats;
+    }
+
+    private void push(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) windowFailures++;
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        openCount++;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
@@ -0,0 +1,186 @@
+package com.amore.aketer.messaging.guard;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import com.amore.aketer.messaging.dto.MessageResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 채널별 발송 보호 (회로 차단 + AIMD 동시 발송 한도)
+ *
+ * - 게이트웨이 장애 시 회로를 열어 호출 자체를 막고, 메시지는 재시도 횟수를 소모하지 않는 보류(deferred) 결과로 돌려보냄
+ * - 동시 발송 한도만큼 나눠 발송, 재시도 가능 실패가 섞이면 한도를 줄이고 성공하면 조금씩 늘림
+ * - HALF_OPEN 시험 발송이 모두 성공해 회로가 닫히면 한도를 최소값부터 다시 늘려 처리량을 점진적으로 복구
+ * - 채널별 회로 상태 / 한도 현황 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChannelSendGuard {
+
+    private final Environment environment;
+
+    @Value("${aketer.messaging.guard.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aketer.messaging.guard.concurrency.acquire-timeout:30000}")
+    private long acquireTimeoutMillis;
+
+    private final Map<ChannelType, ChannelCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final Map<ChannelType, AimdConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param sender 실제 발송 함수 (입력 순서대로 결과 반환, 예외 대신 실패 결과 반환)
+     * @return 입력 순서와 같은 순서의 결과 (발송하지 못한 건은 deferred 결과)
+     */
+    public List<MessageResult> send(ChannelType channelType, List<MessagePayload> payloads,
+                                    Function<List<MessagePayload>, List<MessageResult>> sender) {
+        if (!enabled || channelType == null) {
+            return sender.apply(payloads);
+        }
+
+        ChannelCircuitBreaker breaker = breakers.computeIfAbsent(channelType, this::createBreaker);
+        AimdConcurrencyLimiter limiter = limiters.computeIfAbsent(channelType, this::createLimiter);
+
+        List<MessageResult> results = new ArrayList<>(payloads.size());
+        int index = 0;
+
+        while (index < payloads.size()) {
+            int permitted = breaker.permits(Math.min(payloads.size() - index, limiter.chunkSize()));
+            if (permitted == 0) {
+                break;
+            }
+            if (!acquire(limiter, permitted)) {
+                breaker.cancel(permitted);
+                break;
+            }
+
+            List<MessageResult> chunkResults = null;
+            int successes = 0;
+            int failures = 0;
+            try {
+                chunkResults = sender.apply(payloads.subList(index, index + permitted));
+                for (MessageResult result : chunkResults) {
+                    if (result.isSuccess()) {
+                        successes++;
+                    } else if (result.isRetryable()) {
+                        // 재시도 불가 실패(요청 오류)는 게이트웨이 상태와 무관하므로 제외
+                        failures++;
+                    }
+                }
+            } finally {
+                limiter.release(permitted, successes, failures > 0);
+                if (chunkResults == null) {
+                    // 발송 함수가 예외로 끝나면 결과가 없으므로 HALF_OPEN 시험 자리를 반납
+                    breaker.cancel(permitted);
+                }
+            }
+
+            ChannelCircuitBreaker.State before = breaker.getState();
+            if (breaker.record(chunkResults.size(), successes, failures)) {
+                limiter.restart();
+                log.info("[ChannelSendGuard] {} 회로 회복 (HALF_OPEN → CLOSED), 동시 발송 한도 재시작", channelType);
+            } else if (before != ChannelCircuitBreaker.State.OPEN && breaker.getState() == ChannelCircuitBreaker.State.OPEN) {
+                log.warn("[ChannelSendGuard] {} 회로 차단 ({} → OPEN): {}", channelType, before, breaker.getCurrentStats());
+            }
+
+            results.addAll(chunkResults);
+            index += permitted;
+        }
+
+        if (index < payloads.size()) {
+            MessageResult deferred = deferred(channelType, breaker.retryAfterMillis());
+            for (int i = index; i < payloads.size(); i++) {
+                results.add(deferred);
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * 채널별 회로 상태 / 동시 발송 한도 현황
+     */
+    public Map<String, Map<String, Object>> getCurrentStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        breakers.forEach((channelType, breaker) -> {
+            Map<String, Object> channelStats = new LinkedHashMap<>(breaker.getCurrentStats());
+            AimdConcurrencyLimiter limiter = limiters.get(channelType);
+            if (limiter != null) {
+                channelStats.putAll(limiter.getCurrentStats());
+            }
+            stats.put(channelType.name(), channelStats);
+        });
+        return stats;
+    }
+
+    /**
+     * 채널 중 가장 긴 회로 차단 시간 (보류된 메시지가 재시도 큐에서 한 번에 대기하는 최대 시간)
+     */
+    public long getMaxOpenDurationMillis() {
+        long max = 0;
+        for (ChannelType channelType : ChannelType.values()) {
+            max = Math.max(max, property(channelType, "circuit.open-duration", Long.class, 30_000L));
+        }
+        return max;
+    }
+
+    private boolean acquire(AimdConcurrencyLimiter limiter, int permits) {
+        try {
+            return limiter.acquire(permits, acquireTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static MessageResult deferred(ChannelType channelType, long retryAfterMillis) {
+        return MessageResult.builder()
+                .success(false)
+                .retryable(true)
+                .deferred(true)
+                .retryAfterMillis(retryAfterMillis)
+                .errorCode(channelType + "_CIRCUIT_OPEN")
+                .errorMessage("채널 회로 차단 또는 동시 발송 한도 초과로 발송 보류")
+                .build();
+    }
+
+    private ChannelCircuitBreaker createBreaker(ChannelType channelType) {
+        return new ChannelCircuitBreaker(
+                property(channelType, "circuit.window-size", Integer.class, 50),
+                property(channelType, "circuit.min-calls", Integer.class, 20),
+                property(channelType, "circuit.failure-rate", Double.class, 0.5),
+                property(channelType, "circuit.open-duration", Long.class, 30_000L),
+                property(channelType, "circuit.half-open-probes", Integer.class, 5));
+    }
+
+    private AimdConcurrencyLimiter createLimiter(ChannelType channelType) {
+        return new AimdConcurrencyLimiter(
+                property(channelType, "concurrency.initial", Double.class, 50d),
+                property(channelType, "concurrency.min", Double.class, 2d),
+                property(channelType, "concurrency.max", Double.class, 500d),
+                property(channelType, "concurrency.decrease-ratio", Double.class, 0.7));
+    }
+
+    /**
+     * 채널별 설정: aketer.messaging.guard.channels.{channel}.{name}, 없으면 aketer.messaging.guard.{name}
+     */
+    private <T> T property(ChannelType channelType, String name, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(
+                "aketer.messaging.guard.channels." + channelType.name().toLowerCase() + "." + name, type);
+        return value != null
+                ? value
+                : environment.getProperty("aketer.messaging.guard." + name, type, defaultValue);
+    }
+}
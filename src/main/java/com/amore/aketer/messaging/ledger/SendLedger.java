@@ -0,0 +1,209 @@
+package com.amore.aketer.messaging.ledger;
+
+import com.amore.aketer.domain.message.MessageSendLedger;
+import com.amore.aketer.domain.message.MessageSendLedgerRepository;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 발송 멱등 원장 (reservationId + attempt)
+ *
+ * - 채널 sender 호출 직전에 배치 단위로 선점, 이미 선점된 키는 중복 전달로 보고 발송하지 않음
+ * - 로컬 Bloom filter: 이 인스턴스가 선점/확인한 키 기록
+ *   - 음성(처음 보는 키)이면 바로 INSERT IGNORE 1회로 선점, 모두 들어가면 추가 조회 없음
+ *   - 양성(재전달 가능성 높음)이면 원장 PK 조회로 확인 → 중복이면 쓰기 없이 폐기
+ * - 다른 인스턴스와 동시에 같은 키를 선점하면 INSERT IGNORE 결과(claim_token)로 한 쪽만 발송
+ * - 예약 행은 읽거나 잠그지 않음
+ * - 선점 후 발송 전에 프로세스가 죽으면 같은 attempt 는 다시 발송되지 않음 (attempt 당 최대 1회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SendLedger {
+
+    private final MessageSendLedgerRepository ledgerRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${aketer.messaging.ledger.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aketer.messaging.ledger.bloom.expected-insertions:1000000}")
+    private long expectedInsertions;
+
+    @Value("${aketer.messaging.ledger.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${aketer.messaging.ledger.retention:7d}")
+    private Duration retention;
+
+    // 예상 건수를 채우면 새 필터로 교체하고 직전 필터는 한 세대 더 조회 (오탐률 유지)
+    private volatile BloomFilter current;
+    private volatile BloomFilter previous;
+    private final AtomicLong currentInsertions = new AtomicLong(0);
+
+    private final LongAdder claimed = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder bloomFalsePositives = new LongAdder();
+
+    @PostConstruct
+    private void init() {
+        current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        previous = current;
+    }
+
+    /**
+     * 발송 선점
+     *
+     * @return 입력 순서와 같은 순서의 선점 여부 (false = 이미 선점된 중복)
+     */
+    public List<Boolean> claim(List<MessagePayload> payloads) {
+        if (!enabled || payloads.isEmpty()) {
+            return Collections.nCopies(payloads.size(), true);
+        }
+
+        List<Boolean> claimResults = new ArrayList<>(Collections.nCopies(payloads.size(), false));
+
+        // 1. Bloom 양성 키는 원장 조회로 중복 확인 (쓰기 없음)
+        List<Integer> suspected = new ArrayList<>();
+        for (int i = 0; i < payloads.size(); i++) {
+            if (mightContain(bloomKey(payloads.get(i)))) {
+                suspected.add(i);
+            }
+        }
+        Set<Integer> alreadyClaimed = new HashSet<>();
+        if (!suspected.isEmpty()) {
+            bloomPositives.add(suspected.size());
+            Set<String> existing = new HashSet<>();
+            for (MessageSendLedger ledger : ledgerRepository.findByReservationIdIn(
+                    suspected.stream().map(i -> payloads.get(i).getReservationId()).toList())) {
+                existing.add(ledgerKey(ledger.getReservationId(), ledger.getAttempt()));
+            }
+            for (int i : suspected) {
+                if (existing.contains(ledgerKey(payloads.get(i)))) {
+                    alreadyClaimed.add(i);
+                } else {
+                    bloomFalsePositives.increment();
+                }
+            }
+        }
+
+        // 2. 나머지는 INSERT IGNORE 한 번으로 선점, 일부만 들어갔으면 claim_token 으로 내가 넣은 행 확인
+        // (같은 배치 안에 같은 키가 두 번 들어온 경우 뒤의 것은 중복)
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> batchKeys = new HashSet<>();
+        for (int i = 0; i < payloads.size(); i++) {
+            if (!alreadyClaimed.contains(i) && batchKeys.add(ledgerKey(payloads.get(i)))) {
+                candidates.add(i);
+            }
+        }
+        if (!candidates.isEmpty()) {
+            String token = UUID.randomUUID().toString();
+            int inserted = insertIgnore(payloads, candidates, token);
+
+            Set<String> won = null;
+            if (inserted < candidates.size()) {
+                won = new HashSet<>();
+                for (MessageSendLedger ledger : ledgerRepository.findByReservationIdIn(
+                        candidates.stream().map(i -> payloads.get(i).getReservationId()).toList())) {
+                    if (token.equals(ledger.getClaimToken())) {
+                        won.add(ledgerKey(ledger.getReservationId(), ledger.getAttempt()));
+                    }
+                }
+            }
+            for (int i : candidates) {
+                claimResults.set(i, won == null || won.contains(ledgerKey(payloads.get(i))));
+            }
+        }
+
+        for (MessagePayload payload : payloads) {
+            put(bloomKey(payload));
+        }
+
+        long claimedCount = claimResults.stream().filter(Boolean::booleanValue).count();
+        claimed.add(claimedCount);
+        if (claimedCount < payloads.size()) {
+            duplicates.add(payloads.size() - claimedCount);
+            log.info("중복 전달 발송 생략: {}건", payloads.size() - claimedCount);
+        }
+        return claimResults;
+    }
+
+    @Transactional
+    @Scheduled(cron = "${aketer.messaging.ledger.prune-cron:0 30 4 * * *}")
+    public void prune() {
+        int deleted = ledgerRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        log.info("발송 원장 정리: {}건 삭제 (보관 {})", deleted, retention);
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        return Map.of(
+                "claimed", claimed.sum(),
+                "duplicates", duplicates.sum(),
+                "bloomPositives", bloomPositives.sum(),
+                "bloomFalsePositives", bloomFalsePositives.sum()
+        );
+    }
+
+    private int insertIgnore(List<MessagePayload> payloads, List<Integer> indexes, String token) {
+        StringBuilder sql = new StringBuilder(
+                "insert ignore into message_send_ledger (reservation_id, attempt, claim_token, created_at) values ");
+        List<Object> args = new ArrayList<>(indexes.size() * 3);
+        for (int n = 0; n < indexes.size(); n++) {
+            MessagePayload payload = payloads.get(indexes.get(n));
+            sql.append(n == 0 ? "" : ", ").append("(?, ?, ?, now(6))");
+            args.add(payload.getReservationId());
+            args.add(payload.getRetryCount());
+            args.add(token);
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private boolean mightContain(long key) {
+        return current.mightContain(key) || previous.mightContain(key);
+    }
+
+    private void put(long key) {
+        current.put(key);
+        if (currentInsertions.incrementAndGet() >= expectedInsertions) {
+            synchronized (this) {
+                if (currentInsertions.get() >= expectedInsertions) {
+                    previous = current;
+                    current = new BloomFilter(expectedInsertions, falsePositiveRate);
+                    currentInsertions.set(0);
+                }
+            }
+        }
+    }
+
+    private static long bloomKey(MessagePayload payload) {
+        return (payload.getReservationId() << 8) ^ payload.getRetryCount();
+    }
+
+    private static String ledgerKey(MessagePayload payload) {
+        return ledgerKey(payload.getReservationId(), payload.getRetryCount());
+    }
+
+    private static String ledgerKey(Long reservationId, int attempt) {
+        return reservationId + ":" + attempt;
+    }
+}
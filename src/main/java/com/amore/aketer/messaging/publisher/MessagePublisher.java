@@ -2,43 +2,145 @@ package com.amore.aketer.messaging.publisher;
 
 import com.amore.aketer.messaging.config.RabbitMqConfig;
 import com.amore.aketer.messaging.dto.MessagePayload;
+import com.amore.aketer.messaging.retry.RetryBackoff;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class MessagePublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final RetryBackoff retryBackoff;
 
-    public void publishMessage(MessagePayload payload) {
-        log.info("큐에 메시지 전송: reservationId={}, retryCount={}", payload.getReservationId(), payload.getRetryCount());
+    @Value("${aketer.messaging.publisher.confirm-timeout:10000}")
+    private long confirmTimeoutMillis;
 
-        rabbitTemplate.convertAndSend(
-                RabbitMqConfig.MESSAGE_EXCHANGE,
-                RabbitMqConfig.ROUTING_KEY,
-                payload,
-                message -> {
-                    message.getMessageProperties().setHeader("reservationId", payload.getReservationId());
-                    message.getMessageProperties().setHeader("retryCount", payload.getRetryCount());
-                    message.getMessageProperties().setHeader("traceId", payload.getTraceId());
-                    return message;
+    private final AtomicLong publishedCount = new AtomicLong(0);
+    private final AtomicLong ackedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+
+    /**
+     * 발송 메시지 일괄 적재 (publisher confirm)
+     * - 한 채널에서 연속으로 publish 후 한 번에 flush, 건별 CorrelationData 로 broker 확인(ack/nack)을 비동기로 수집
+     * - nack / 라우팅 실패(return) / confirm-timeout 내 미확인 / publish 예외인 건은 실패로 간주
+     *
+     * @return 모든 확인이 끝나면 실패한 reservationId 목록으로 완료되는 future (아웃박스 릴레이는 해당 행을 남겨 재적재)
+     */
+    public CompletableFuture<List<Long>> publishMessages(List<MessagePayload> payloads) {
+        List<CorrelationData> correlations = new ArrayList<>(payloads.size());
+
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (MessagePayload payload : payloads) {
+                    CorrelationData correlation = new CorrelationData(payload.getReservationId() + ":" + payload.getTraceId());
+                    correlations.add(correlation);
+                    operations.convertAndSend(
+                            RabbitMqConfig.MESSAGE_EXCHANGE,
+                            RabbitMqConfig.ROUTING_KEY,
+                            payload,
+                            messageHeaders(payload),
+                            correlation
+                    );
                 }
+                return null;
+            });
+        } catch (AmqpException e) {
+            // 일부는 이미 broker 에 도착했을 수 있지만 확인할 수 없으므로 전부 실패 처리 (중복 발송 허용, 유실 방지)
+            log.error("큐에 메시지 일괄 전송 실패: {}건", payloads.size(), e);
+            failedCount.addAndGet(payloads.size());
+            return CompletableFuture.completedFuture(payloads.stream().map(MessagePayload::getReservationId).toList());
+        }
+
+        publishedCount.addAndGet(payloads.size());
+        log.info("큐에 메시지 일괄 전송: {}건", payloads.size());
+
+        List<CompletableFuture<Boolean>> confirms = correlations.stream()
+                .map(correlation -> correlation.getFuture()
+                        .orTimeout(confirmTimeoutMillis, TimeUnit.MILLISECONDS)
+                        .handle((confirm, e) -> confirmed(correlation, confirm, e)))
+                .toList();
+
+        return CompletableFuture.allOf(confirms.toArray(CompletableFuture[]::new))
+                .thenApply(v -> {
+                    List<Long> failedIds = new ArrayList<>();
+                    for (int i = 0; i < payloads.size(); i++) {
+                        if (!confirms.get(i).join()) {
+                            failedIds.add(payloads.get(i).getReservationId());
+                        }
+                    }
+                    return failedIds;
+                });
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        return Map.of(
+                "published", publishedCount.get(),
+                "acked", ackedCount.get(),
+                "failed", failedCount.get()
         );
     }
 
+    private boolean confirmed(CorrelationData correlation, CorrelationData.Confirm confirm, Throwable e) {
+        if (e != null) {
+            log.warn("publisher confirm 미수신: {} ({})", correlation.getId(), e.getClass().getSimpleName());
+        } else if (!confirm.isAck()) {
+            log.warn("publisher confirm nack: {}, reason={}", correlation.getId(), confirm.getReason());
+        } else if (correlation.getReturned() != null) {
+            log.warn("메시지 라우팅 실패(return): {}, replyText={}", correlation.getId(), correlation.getReturned().getReplyText());
+        } else {
+            ackedCount.incrementAndGet();
+            return true;
+        }
+        failedCount.incrementAndGet();
+        return false;
+    }
+
+    private static MessagePostProcessor messageHeaders(MessagePayload payload) {
+        return message -> {
+            message.getMessageProperties().setHeader("reservationId", payload.getReservationId());
+            message.getMessageProperties().setHeader("retryCount", payload.getRetryCount());
+            message.getMessageProperties().setHeader("traceId", payload.getTraceId());
+            return message;
+        };
+    }
+
+    /**
+     * 재시도 큐 적재 ({@link RetryBackoff} 의 모드/단계에 따라 라우팅, 지연에 jitter 적용)
+     * - ttl-queues: delayMs 이상인 가장 짧은 단계 큐로 보내고 메시지 만료 시간은 단계 TTL 에서 jitter 만큼 줄임
+     * - delayed-exchange: x-delay 헤더로 delayMs(jitter 적용)만큼 지연
+     */
     public void publishToRetryQueue(MessagePayload payload, long delayMs) {
-        log.info("큐에 메시지 재전송: reservationId={}, retryCount={}, delayMs={}", payload.getReservationId(), payload.getRetryCount(), delayMs);
+        boolean delayedExchange = retryBackoff.isDelayedExchange();
+        long tierDelay = retryBackoff.tierDelayFor(delayMs);
+        long delay = retryBackoff.withJitter(delayedExchange ? delayMs : tierDelay);
+
+        log.info("큐에 메시지 재전송: reservationId={}, retryCount={}, delayMs={}", payload.getReservationId(), payload.getRetryCount(), delay);
 
         rabbitTemplate.convertAndSend(
-                RabbitMqConfig.MESSAGE_EXCHANGE,
-                RabbitMqConfig.RETRY_ROUTING_KEY,
+                delayedExchange ? RabbitMqConfig.RETRY_DELAYED_EXCHANGE : RabbitMqConfig.MESSAGE_EXCHANGE,
+                delayedExchange ? RabbitMqConfig.ROUTING_KEY : RetryBackoff.routingKey(tierDelay),
                 payload,
                 message -> {
-                    message.getMessageProperties().setExpiration(String.valueOf(delayMs));
+                    if (delayedExchange) {
+                        message.getMessageProperties().setHeader("x-delay", delay);
+                    } else {
+                        message.getMessageProperties().setExpiration(String.valueOf(delay));
+                    }
                     message.getMessageProperties().setHeader("retryCount", payload.getRetryCount());
                     message.getMessageProperties().setHeader("traceId", payload.getTraceId());
                     return message;
@@ -0,0 +1,104 @@
+package com.amore.aketer.messaging.retry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 메시지 재시도 지수 백오프 (aketer.messaging.retry.*)
+ *
+ * - n번째 재시도 지연 = initial-delay * multiplier^n (n = 0 .. max-attempts-1), 각 지연이 재시도 큐 1단계(tier)
+ * - ttl-queues 모드: 단계마다 고정 TTL 큐를 두어 큐 안의 메시지 지연이 모두 같으므로 앞 메시지가 뒤 메시지를 막지 않음
+ * - delayed-exchange 모드: rabbitmq_delayed_message_exchange 플러그인의 x-delay 헤더로 메시지별 지연
+ * - jitter 비율만큼 지연을 무작위로 줄여 같은 시각에 실패한 메시지가 한꺼번에 재전달되지 않도록 분산
+ */
+@Slf4j
+@Component
+public class RetryBackoff {
+
+    public static final String MODE_TTL_QUEUES = "ttl-queues";
+    public static final String MODE_DELAYED_EXCHANGE = "delayed-exchange";
+
+    @Value("${aketer.messaging.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${aketer.messaging.retry.initial-delay:60000}")
+    private long initialDelay;
+
+    @Value("${aketer.messaging.retry.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${aketer.messaging.retry.jitter:0.1}")
+    private double jitter;
+
+    @Value("${aketer.messaging.retry.mode:" + MODE_TTL_QUEUES + "}")
+    private String mode;
+
+    private List<Long> tierDelays;
+
+    @PostConstruct
+    private void init() {
+        List<Long> delays = new ArrayList<>();
+        for (int attempt = 0; attempt < Math.max(1, maxAttempts); attempt++) {
+            delays.add(Math.round(initialDelay * Math.pow(multiplier, attempt)));
+        }
+        tierDelays = Collections.unmodifiableList(delays);
+        log.info("메시지 재시도 백오프 - mode: {}, tiers: {}ms, jitter: {}", mode, tierDelays, jitter);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public boolean isDelayedExchange() {
+        return MODE_DELAYED_EXCHANGE.equals(mode);
+    }
+
+    /**
+     * 재시도 단계별 지연 (ttl-queues 모드에서 단계별 큐 TTL)
+     */
+    public List<Long> getTierDelays() {
+        return tierDelays;
+    }
+
+    /**
+     * retryCount 번째 재시도의 기본 지연
+     */
+    public long delayFor(int retryCount) {
+        return tierDelays.get(Math.min(Math.max(retryCount, 0), tierDelays.size() - 1));
+    }
+
+    /**
+     * 요청 지연 이상인 가장 짧은 단계의 지연 (없으면 가장 긴 단계)
+     */
+    public long tierDelayFor(long delayMs) {
+        for (long tierDelay : tierDelays) {
+            if (tierDelay >= delayMs) {
+                return tierDelay;
+            }
+        }
+        return tierDelays.get(tierDelays.size() - 1);
+    }
+
+    /**
+     * 지연에서 최대 jitter 비율만큼 무작위로 뺀 값 (큐 TTL 을 넘지 않도록 줄이는 방향으로만 적용)
+     */
+    public long withJitter(long delayMs) {
+        long spread = (long) (delayMs * jitter);
+        return spread <= 0 ? delayMs : delayMs - ThreadLocalRandom.current().nextLong(spread + 1);
+    }
+
+    public static String queueName(long tierDelay) {
+        return "aketer.message.retry.queue." + tierDelay;
+    }
+
+    public static String routingKey(long tierDelay) {
+        return "message.retry." + tierDelay;
+    }
+}
@@ -0,0 +1,131 @@
+package com.amore.aketer.service;
+
+import com.amore.aketer.domain.message.MessageOutbox;
+import com.amore.aketer.domain.message.MessageOutboxRepository;
+import com.amore.aketer.domain.message.MessageReservation;
+import com.amore.aketer.domain.message.MessageReservationRepository;
+import com.amore.aketer.messaging.publisher.MessagePublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 예약 메시지 발송 선점(claim) / 상태 전이
+ *
+ * - 한 페이지(limit 건)씩 짧은 트랜잭션으로 READY → PENDING 선점과 아웃박스 적재를 함께 커밋
+ * - 큐 적재는 아웃박스 릴레이가 별도 트랜잭션에서 일괄 수행 (선점 커밋 없이 발송되거나, 발송 없이 PENDING 에 묶이는 건 없음)
+ * - SELECT ... FOR UPDATE SKIP LOCKED 로 잠긴 행을 건너뛰므로 워커/인스턴스 수만큼 병렬 선점 가능
+ * - 상태 전이는 엔티티 단건 save 대신 id 목록 단위 벌크 UPDATE 로 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageDispatchService {
+
+    private final MessageReservationRepository reservationRepository;
+    private final MessageOutboxRepository outboxRepository;
+    private final MessagePublisher publisher;
+
+    /**
+     * READY → PENDING 선점과 아웃박스 적재를 한 트랜잭션으로 커밋 (큐 적재는 릴레이가 담당)
+     *
+     * @return 선점한 예약 수
+     */
+    @Transactional
+    public int claimReady(LocalDateTime now, int limit) {
+        List<Long> claimedIds = reservationRepository.claimReady(now, limit);
+        if (claimedIds.isEmpty()) {
+            return 0;
+        }
+
+        // 행 잠금을 잡고 있으므로 전부 전이됨
+        reservationRepository.markPending(claimedIds);
+        outboxRepository.appendReservations(claimedIds);
+
+        return claimedIds.size();
+    }
+
+    /**
+     * 아웃박스 앞에서부터 limit 건을 잠그고 큐에 일괄 적재, broker 확인(ack)된 행만 삭제
+     * - nack / 미확인 행은 남겨 두고 다음 릴레이에서 다시 적재 (예약은 PENDING 유지)
+     * - 확인을 기다리는 동안(최대 confirm-timeout) 행 잠금을 유지해 다른 릴레이 인스턴스와 중복 적재하지 않음
+     *
+     * @return 잠근 행 수 / 확인되지 않은 행 수
+     */
+    @Transactional
+    public RelayResult relayOutbox(int limit) {
+        List<MessageOutbox> batch = outboxRepository.lockBatch(limit);
+        if (batch.isEmpty()) {
+            return new RelayResult(0, 0);
+        }
+
+        Set<Long> failedReservationIds = new HashSet<>(publisher.publishMessages(
+                batch.stream().map(MessageOutbox::toPayload).toList()).join());
+
+        List<Long> ackedIds = batch.stream()
+                .filter(outbox -> !failedReservationIds.contains(outbox.getReservationId()))
+                .map(MessageOutbox::getId)
+                .toList();
+        if (!ackedIds.isEmpty()) {
+            outboxRepository.deleteByIds(ackedIds);
+        }
+
+        return new RelayResult(batch.size(), batch.size() - ackedIds.size());
+    }
+
+    /**
+     * 발송 결과 일괄 반영 (결과 종류별 벌크 UPDATE)
+     * - 재시도 가능 실패: 재시도 횟수 소진 건은 FAILED, 나머지는 retryCount+1 후 5분 뒤 READY 로 재예약
+     */
+    @Transactional
+    public void applyResults(List<Long> completedIds, List<Long> retryableIds, List<Long> failedIds) {
+        int completed = completedIds.isEmpty() ? 0 : reservationRepository.markCompleted(completedIds);
+
+        int exhausted = 0;
+        int retried = 0;
+        if (!retryableIds.isEmpty()) {
+            exhausted = reservationRepository.failExhausted(retryableIds, MessageReservation.MAX_RETRY_COUNT);
+            retried = reservationRepository.scheduleRetry(retryableIds,
+                    LocalDateTime.now().plusMinutes(MessageReservation.RETRY_DELAY_MINUTES),
+                    MessageReservation.MAX_RETRY_COUNT);
+        }
+
+        int failed = failedIds.isEmpty() ? 0 : reservationRepository.markFailed(failedIds);
+
+        log.debug("발송 결과 반영: completed={}, retry={}, exhausted={}, failed={}", completed, retried, exhausted, failed);
+    }
+
+    /**
+     * 재시도 큐에서 대기 중인 PENDING 예약의 updated_at 갱신 (결과 유실 정리 대상에서 제외)
+     */
+    @Transactional
+    public int touchPending(List<Long> reservationIds) {
+        return reservationIds.isEmpty() ? 0 : reservationRepository.touchPending(reservationIds);
+    }
+
+    /**
+     * 결과가 유실된 PENDING 예약을 재시도 가능 실패로 처리 (READY 재예약, 재시도 횟수 소진 건은 FAILED)
+     * - 컨슈머는 결과를 버퍼에 적재한 뒤 ack 하므로 flush 전에 죽으면 예약이 PENDING 에 남음 (선점은 READY 만 대상)
+     * - 재시도 횟수를 올려 새 attempt 로 발송하므로 원래 발송이 성공했다면 중복 발송될 수 있음 (at-least-once)
+     * - 보류/재시도 중인 건은 {@link #touchPending(List)} 로 갱신되므로 staleSeconds 가 큐 적체 + 재시도 큐 최대 대기보다 길면 살아 있는 메시지는 대상이 아님
+     *
+     * @return 재시도/실패 처리한 예약 수
+     */
+    @Transactional
+    public int sweepStalePending(long staleSeconds, int limit) {
+        List<Long> staleIds = reservationRepository.findStalePending(staleSeconds, limit);
+        if (staleIds.isEmpty()) {
+            return 0;
+        }
+        applyResults(List.of(), staleIds, List.of());
+        return staleIds.size();
+    }
+
+    public record RelayResult(int relayed, int failed) {}
+}
@@ -67,11 +67,10 @@ public class MessageReservationService {
 
     @Transactional
     public void cancelReservation(Long id) {
-        MessageReservation reservation = reservationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 예약이 없습니다: " + id));
-
-        reservation.cancel();
-        reservationRepository.save(reservation);
+        // READY 인 경우에만 CANCELED 로 전이 (조회 없이 UPDATE 1회)
+        if (reservationRepository.cancelReady(List.of(id)) == 0 && !reservationRepository.existsById(id)) {
+            throw new IllegalArgumentException("해당 예약이 없습니다: " + id);
+        }
     }
 
     @Transactional
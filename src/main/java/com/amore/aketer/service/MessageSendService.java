@@ -1,16 +1,19 @@
 package com.amore.aketer.service;
 
-import com.amore.aketer.domain.message.MessageReservation;
-import com.amore.aketer.domain.message.MessageReservationRepository;
 import com.amore.aketer.domain.enums.ChannelType;
 import com.amore.aketer.external.channel.MessageChannelSender;
 import com.amore.aketer.messaging.dto.MessagePayload;
 import com.amore.aketer.messaging.dto.MessageResult;
+import com.amore.aketer.messaging.guard.ChannelSendGuard;
+import com.amore.aketer.messaging.ledger.SendLedger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -18,53 +21,124 @@ import java.util.Map;
 @Slf4j
 public class MessageSendService {
 
-    private final MessageReservationRepository reservationRepository;
+    private final ReservationStatusBuffer statusBuffer;
     private final Map<ChannelType, MessageChannelSender> channelSenders;
     private final MessageReportService reportService;
+    private final ChannelSendGuard sendGuard;
+    private final SendLedger sendLedger;
+
+    private static final MessageResult DUPLICATE = MessageResult.builder()
+            .success(false)
+            .duplicate(true)
+            .build();
 
     public MessageResult sendMessage(MessagePayload payload) {
         log.info("메시지 전송: reservationId={}, channelType={}, retryCount={}", payload.getReservationId(), payload.getChannelType(), payload.getRetryCount());
 
-        try {
-            MessageChannelSender sender = channelSenders.get(payload.getChannelType());
-            if (sender == null) {
-                throw new IllegalStateException("채널 sender를 찾을 수 없습니다: " + payload.getChannelType());
-            }
-
-            MessageResult result = sender.send(payload);
+        MessageResult result = sendGuard.send(payload.getChannelType(), List.of(payload), this::sendChunk).get(0);
 
+        // 보류/중복 건은 발송을 시도하지 않았으므로 예약 상태/리포트에 반영하지 않음
+        if (result.isAttempted()) {
             updateReservationStatus(payload.getReservationId(), result);
-
             reportService.recordSendResult(payload, result);
+        }
 
-            return result;
-
-        } catch (Exception e) {
-            log.error("Error sending message: reservationId={}", payload.getReservationId(), e);
-            MessageResult failResult = MessageResult.builder()
-                    .success(false)
-                    .retryable(true)
-                    .errorMessage(e.getMessage())
-                    .build();
+        return result;
+    }
 
-            updateReservationStatus(payload.getReservationId(), failResult);
-            reportService.recordSendResult(payload, failResult);
+    /**
+     * 배치 전송: 채널별로 묶어 {@link MessageChannelSender#sendBulk(List)} 호출 후 예약 상태를 한 번에 반영
+     * (채널별 회로 차단 / 동시 발송 한도는 {@link ChannelSendGuard} 에서 적용)
+     *
+     * @return 입력 순서와 같은 순서의 전송 결과
+     */
+    public List<MessageResult> sendMessages(List<MessagePayload> payloads) {
+        Map<ChannelType, List<MessagePayload>> byChannel = new LinkedHashMap<>();
+        for (MessagePayload payload : payloads) {
+            byChannel.computeIfAbsent(payload.getChannelType(), k -> new ArrayList<>()).add(payload);
+        }
 
-            return failResult;
+        Map<MessagePayload, MessageResult> resultByPayload = new IdentityHashMap<>();
+        byChannel.forEach((channelType, group) -> {
+            List<MessageResult> results = sendGroup(channelType, group);
+            for (int i = 0; i < group.size(); i++) {
+                resultByPayload.put(group.get(i), results.get(i));
+            }
+        });
+
+        List<MessageResult> results = payloads.stream().map(resultByPayload::get).toList();
+
+        // 보류/중복 건은 발송을 시도하지 않았으므로 예약 상태/리포트에 반영하지 않음
+        List<Long> attemptedIds = new ArrayList<>();
+        List<MessageResult> attemptedResults = new ArrayList<>();
+        for (int i = 0; i < payloads.size(); i++) {
+            if (results.get(i).isAttempted()) {
+                attemptedIds.add(payloads.get(i).getReservationId());
+                attemptedResults.add(results.get(i));
+                reportService.recordSendResult(payloads.get(i), results.get(i));
+            }
         }
+        statusBuffer.recordAll(attemptedIds, attemptedResults);
+
+        return results;
+    }
+
+    private List<MessageResult> sendGroup(ChannelType channelType, List<MessagePayload> group) {
+        log.info("메시지 일괄 전송: channelType={}, count={}", channelType, group.size());
+        return sendGuard.send(channelType, group, this::sendChunk);
     }
 
-    @Transactional
-    protected void updateReservationStatus(Long reservationId, MessageResult result) {
-        MessageReservation reservation = reservationRepository.findById(reservationId)
-                .orElseThrow(() -> new IllegalStateException("해당 메시지 예약이 없습니다: " + reservationId));
+    /**
+     * 발송 원장({@link SendLedger})에서 선점한 건만 채널 sender 로 전송, 이미 선점된 중복 전달은 duplicate 결과로 반환
+     */
+    private List<MessageResult> sendChunk(List<MessagePayload> group) {
+        ChannelType channelType = group.get(0).getChannelType();
+
+        try {
+            MessageChannelSender sender = channelSenders.get(channelType);
+            if (sender == null) {
+                throw new IllegalStateException("채널 sender를 찾을 수 없습니다: " + channelType);
+            }
+
+            List<Boolean> claims = sendLedger.claim(group);
+            List<MessagePayload> claimed = new ArrayList<>(group.size());
+            for (int i = 0; i < group.size(); i++) {
+                if (claims.get(i)) {
+                    claimed.add(group.get(i));
+                }
+            }
 
-        if (result.isSuccess()) {
-            reservation.complete();
-        } else {
-            reservation.fail(result.isRetryable());
+            List<MessageResult> sent = claimed.isEmpty() ? List.of() : sender.sendBulk(claimed);
+            if (sent.size() != claimed.size()) {
+                throw new IllegalStateException("일괄 전송 결과 건수가 요청 건수와 다릅니다: " + sent.size() + " / " + claimed.size());
+            }
+
+            List<MessageResult> results = new ArrayList<>(group.size());
+            int sentIndex = 0;
+            for (Boolean claim : claims) {
+                results.add(claim ? sent.get(sentIndex++) : DUPLICATE);
+            }
+            return results;
+
+        } catch (Exception e) {
+            log.error("Error sending messages: channelType={}, count={}", channelType, group.size(), e);
+            MessageResult failResult = failResult(e);
+            return group.stream().map(payload -> failResult).toList();
         }
+    }
+
+    private static MessageResult failResult(Exception e) {
+        return MessageResult.builder()
+                .success(false)
+                .retryable(true)
+                .errorMessage(e.getMessage())
+                .build();
+    }
 
-        reservationRepository.save(reservation);
+    /**
+     * 예약 상태는 버퍼에 적재 후 flush 주기마다 벌크 UPDATE 로 반영 ({@link ReservationStatusBuffer})
+     */
+    private void updateReservationStatus(Long reservationId, MessageResult result) {
+        statusBuffer.record(reservationId, result);
     }
 }
@@ -0,0 +1,150 @@
+package com.amore.aketer.service;
+
+import com.amore.aketer.messaging.dto.MessageResult;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발송 결과 상태 반영 버퍼
+ *
+ * - 컨슈머가 메시지마다 예약을 조회/저장하지 않고 결과만 적재, flush 주기(또는 size 도달) 마다 결과 종류별 벌크 UPDATE 로 반영
+ * - flush 실패 시 결과를 다시 적재해 다음 flush 에서 재시도
+ * - 배치 컨슈머는 {@link #recordAll(List, List)} 로 배치 단위 즉시 반영
+ * - 종료 시 남은 결과 반영
+ * - 메시지 ack 후 flush 전에 프로세스가 죽으면 결과가 유실됨 → PENDING 에 남은 예약은 {@link MessageDispatchService#sweepStalePending(long, int)} 가 재시도로 돌림
+ * - 보류/재시도로 재시도 큐에 들어간 예약은 {@link #touch(Long)} 로 적재, flush 때 updated_at 을 갱신해 정리 대상에서 빠지게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationStatusBuffer {
+
+    private final MessageDispatchService dispatchService;
+
+    @Value("${aketer.messaging.status-flush.size:500}")
+    private int flushSize;
+
+    private final Queue<Outcome> outcomes = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger(0);
+    private final Queue<Long> heartbeats = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong flushCount = new AtomicLong(0);
+    private final AtomicLong flushedOutcomes = new AtomicLong(0);
+    private final AtomicLong flushFailures = new AtomicLong(0);
+
+    public void record(Long reservationId, MessageResult result) {
+        outcomes.add(new Outcome(reservationId, result.isSuccess(), result.isRetryable()));
+        if (bufferedCount.incrementAndGet() >= flushSize) {
+            flush();
+        }
+    }
+
+    /**
+     * 배치 컨슈머용: 결과를 적재한 뒤 바로 flush 해 한 번의 벌크 UPDATE 로 반영
+     */
+    public void recordAll(List<Long> reservationIds, List<MessageResult> results) {
+        for (int i = 0; i < reservationIds.size(); i++) {
+            MessageResult result = results.get(i);
+            outcomes.add(new Outcome(reservationIds.get(i), result.isSuccess(), result.isRetryable()));
+        }
+        bufferedCount.addAndGet(reservationIds.size());
+        flush();
+    }
+
+    /**
+     * 재시도 큐에서 대기할 PENDING 예약 적재 (결과가 아니므로 flush 건수 기준에는 포함하지 않음)
+     */
+    public void touch(Long reservationId) {
+        heartbeats.add(reservationId);
+    }
+
+    @Scheduled(fixedDelayString = "${aketer.messaging.status-flush.interval:200}")
+    public void flush() {
+        flushHeartbeats();
+
+        List<Outcome> drained = new ArrayList<>();
+        Outcome outcome;
+        while ((outcome = outcomes.poll()) != null) {
+            drained.add(outcome);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        bufferedCount.addAndGet(-drained.size());
+
+        List<Long> completedIds = new ArrayList<>();
+        List<Long> retryableIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (Outcome o : drained) {
+            if (o.success()) {
+                completedIds.add(o.reservationId());
+            } else if (o.retryable()) {
+                retryableIds.add(o.reservationId());
+            } else {
+                failedIds.add(o.reservationId());
+            }
+        }
+
+        try {
+            dispatchService.applyResults(completedIds, retryableIds, failedIds);
+            flushCount.incrementAndGet();
+            flushedOutcomes.addAndGet(drained.size());
+        } catch (Exception e) {
+            flushFailures.incrementAndGet();
+            log.error("발송 결과 상태 반영 실패, 다음 주기에 재시도: {}건", drained.size(), e);
+            outcomes.addAll(drained);
+            bufferedCount.addAndGet(drained.size());
+        }
+    }
+
+    /**
+     * 갱신 실패는 다시 적재하지 않음 (다음 보류/재시도 때 다시 갱신되고, 정리 기준에는 재시도 큐 대기 한 번의 여유가 있음)
+     */
+    private void flushHeartbeats() {
+        Set<Long> ids = new HashSet<>();
+        Long id;
+        while ((id = heartbeats.poll()) != null) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        try {
+            dispatchService.touchPending(new ArrayList<>(ids));
+        } catch (Exception e) {
+            log.error("PENDING 예약 updated_at 갱신 실패: {}건", ids.size(), e);
+        }
+    }
+
+    @PreDestroy
+    private void flushOnShutdown() {
+        flush();
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        long flushes = flushCount.get();
+        return Map.of(
+                "buffered", (long) bufferedCount.get(),
+                "flushes", flushes,
+                "avgBatchSize", flushes == 0 ? 0 : flushedOutcomes.get() / flushes,
+                "flushFailures", flushFailures.get()
+        );
+    }
+
+    private record Outcome(Long reservationId, boolean success, boolean retryable) {}
+}
@@ -3,6 +3,7 @@ package com.amore.aketer.workflow.batch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.batch.core.*;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
@@ -19,15 +20,18 @@ public class OfflineMasterJobRunner {
     private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
 
     private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
     private final Job offlineMasterJob;
 
     private final AtomicBoolean running = new AtomicBoolean(false);
 
     public OfflineMasterJobRunner(
             JobLauncher jobLauncher,
+            JobExplorer jobExplorer,
             @Qualifier("offlineMasterJob") Job offlineMasterJob
     ) {
         this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
         this.offlineMasterJob = offlineMasterJob;
     }
 
@@ -40,13 +44,19 @@ public class OfflineMasterJobRunner {
         try {
             String srchDt = LocalDate.now(KST).format(YMD);
 
-            JobParameters params = new JobParametersBuilder()
-                    .addString("srchDt", srchDt)
-                    // 같은 srchDt로 재실행해도 JobInstance 충돌 안 나게 유니크 파라미터 추가
-                    .addLong("triggerTime", System.currentTimeMillis())
-                    .toJobParameters();
+            JobParameters params = failedParams(srchDt);
+            if (params != null) {
+                // 같은 파라미터로 실행하면 실패한 JobInstance 를 재시작 (완료된 스텝/파티션은 건너뛰고 마지막 커밋 chunk 부터)
+                log.info("Restarting failed OfflineMasterJob srchDt={}", srchDt);
+            } else {
+                params = new JobParametersBuilder()
+                        .addString("srchDt", srchDt)
+                        // 같은 srchDt로 재실행해도 JobInstance 충돌 안 나게 유니크 파라미터 추가
+                        .addLong("triggerTime", System.currentTimeMillis())
+                        .toJobParameters();
+                log.info("Launching OfflineMasterJob srchDt={}", srchDt);
+            }
 
-            log.info("Launching OfflineMasterJob srchDt={}", srchDt);
             JobExecution exec = jobLauncher.run(offlineMasterJob, params);
             log.info("OfflineMasterJob executionId={} status={}", exec.getId(), exec.getStatus());
         } catch (Exception e) {
@@ -55,4 +65,21 @@ public class OfflineMasterJobRunner {
             running.set(false);
         }
     }
+
+    /**
+     * 같은 srchDt 의 마지막 실행이 실패/중단 상태면 그 실행의 파라미터, 아니면 null
+     */
+    private JobParameters failedParams(String srchDt) {
+        JobInstance lastInstance = jobExplorer.getLastJobInstance(offlineMasterJob.getName());
+        if (lastInstance == null) {
+            return null;
+        }
+        JobExecution lastExecution = jobExplorer.getLastJobExecution(lastInstance);
+        if (lastExecution == null
+                || (lastExecution.getStatus() != BatchStatus.FAILED && lastExecution.getStatus() != BatchStatus.STOPPED)
+                || !srchDt.equals(lastExecution.getJobParameters().getString("srchDt"))) {
+            return null;
+        }
+        return lastExecution.getJobParameters();
+    }
 }
@@ -4,9 +4,7 @@ import com.amore.aketer.workflow.batch.BatchParams;
 import com.amore.aketer.workflow.batch.service.ItemFeatureUpdateService;
 import com.amore.aketer.workflow.batch.service.PersonaClusterService;
 import com.amore.aketer.workflow.batch.service.PersonaItemMatchService;
-import com.amore.aketer.workflow.batch.service.UserFeatureUpdateService;
 import org.springframework.batch.core.Job;
-import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
@@ -19,7 +17,7 @@ import org.springframework.transaction.PlatformTransactionManager;
 @Configuration
 public class OfflineBatchJobsConfig {
 
-    // ===== A. UserFeatureUpdate =====
+    // ===== A. UserFeatureUpdate (스텝은 UserFeatureUpdateStepConfig: 파티셔닝 chunk 스텝) =====
     @Bean
     public Job userFeatureUpdateJob(JobRepository jobRepository, Step userFeatureUpdateStep) {
         return new JobBuilder("UserFeatureUpdateJob", jobRepository)
@@ -27,19 +25,6 @@ public class OfflineBatchJobsConfig {
                 .build();
     }
 
-    @Bean
-    public Step userFeatureUpdateStep(JobRepository jobRepository,
-                                      PlatformTransactionManager tx,
-                                      UserFeatureUpdateService service) {
-        return new StepBuilder("UserFeatureUpdateStep", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    JobParameters params = contribution.getStepExecution().getJobParameters();
-                    service.run(BatchParams.srchDt(params));
-                    return RepeatStatus.FINISHED;
-                }, tx)
-                .build();
-    }
-
     // ===== B. PersonaCluster =====
     @Bean
     public Job personaClusterJob(JobRepository jobRepository, Step personaClusterStep) {
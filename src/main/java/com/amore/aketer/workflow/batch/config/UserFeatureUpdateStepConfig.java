@@ -0,0 +1,262 @@
+package com.amore.aketer.workflow.batch.config;
+
+import com.amore.aketer.workflow.batch.BatchParams;
+import com.amore.aketer.workflow.batch.dto.UserFeatureScore;
+import com.amore.aketer.workflow.batch.dto.UserPurchaseSummary;
+import com.amore.aketer.workflow.batch.partition.UserIdRangePartitioner;
+import com.amore.aketer.workflow.batch.service.UserFeatureUpdateService;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 유저 피처 갱신 스텝 (users.id 범위 파티셔닝 + chunk 지향)
+ *
+ * - manager 스텝이 {@link UserIdRangePartitioner} 로 유저 id 구간을 나누고, 구간마다 worker 스텝을 TaskExecutor 에서 병렬 실행
+ * - worker: 변경분(delta) 유저의 조회 기간 주문 집계를 커서로 읽고 → 점수 계산 → user_feature 에 JDBC 배치 upsert
+ * - chunk 마다 커밋하면서 마지막으로 쓴 user_id 를 실행 컨텍스트에 저장, 실패 후 재시작 시 완료된 파티션은 건너뛰고
+ *   실패한 파티션은 그 user_id 다음부터 다시 조회 (행 수 skip 은 변경분 집합이 바뀌면 밀리므로 사용하지 않음)
+ * - 변경분: 기준일 - delta-days 이후 주문 / 상호작용 스냅샷이 있는 유저 + 아직 user_feature 가 없는 유저
+ *   + 지난 계산 때 집계한 주문이 이번 조회 기간 밖으로 빠진 유저 (새 주문이 없어도 점수가 바뀜)
+ * - 조회 기간 내 주문이 하나도 없는 유저도 읽어 점수/버킷을 비움 (건너뛰면 기간이 지난 피처가 그대로 남음)
+ */
+@Configuration
+public class UserFeatureUpdateStepConfig {
+
+    private static final DateTimeFormatter YMD = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /** 파티션별 마지막 커밋 chunk 의 user_id (재시작 시 이 다음부터 조회) */
+    static final String LAST_USER_ID = "lastUserId";
+
+    /**
+     * 유저별·브랜드별로 먼저 집계한 뒤 유저 단위로 다시 묶음 (2회 이상 구매 브랜드 판별)
+     * - 변경분 유저 목록은 파생 테이블로 한 번만 구체화해 orders 와 left join (주문 없는 유저는 order_cnt = 0 으로 1행)
+     * - 기간 이탈: user_feature.as_of_date 기준 조회 기간 시작 ~ 이번 조회 기간 시작 사이 주문이 있으면 지난 계산에만 포함된 주문이 있는 것
+     */
+    private static final String SUMMARY_SQL = """
+            select ub.user_id,
+                   sum(ub.order_cnt) as order_cnt,
+                   count(ub.brand_name) as brand_cnt,
+                   sum(case when ub.brand_name is not null and ub.order_cnt >= 2 then ub.order_cnt else 0 end) as repeat_brand_order_cnt,
+                   sum(ub.discounted_cnt) as discounted_cnt,
+                   sum(ub.benefit_cnt) as benefit_cnt,
+                   sum(ub.value_cnt) as value_cnt,
+                   sum(ub.premium_cnt) as premium_cnt,
+                   sum(ub.event_cnt) as event_cnt,
+                   sum(ub.season_promo_cnt) as season_promo_cnt,
+                   sum(ub.free_gift_cnt) as free_gift_cnt
+            from (
+                select delta.user_id,
+                       d.brand_name,
+                       count(o.id) as order_cnt,
+                       sum(case when o.unit_price < d.list_price then 1 else 0 end) as discounted_cnt,
+                       sum(case when f.promotion_type is not null then 1 else 0 end) as benefit_cnt,
+                       sum(case when f.price_position = 'VALUE' then 1 else 0 end) as value_cnt,
+                       sum(case when f.price_position = 'PREMIUM' then 1 else 0 end) as premium_cnt,
+                       sum(case when f.promotion_type = 'EVENT' then 1 else 0 end) as event_cnt,
+                       sum(case when f.promotion_type = 'SEASON_PROMO' then 1 else 0 end) as season_promo_cnt,
+                       sum(case when f.promotion_type = 'FREE_GIFT' then 1 else 0 end) as free_gift_cnt
+                from (
+                    select x.user_id from orders x
+                    where x.user_id between ? and ? and x.ordered_at >= ?
+                    union
+                    select i.user_id from user_item_interaction i
+                    where i.user_id between ? and ? and i.as_of_date >= ?
+                    union
+                    select u.id from users u
+                    where u.id between ? and ?
+                      and not exists (select 1 from user_feature uf where uf.user_id = u.id)
+                    union
+                    select uf.user_id from user_feature uf
+                    where uf.user_id between ? and ?
+                      and exists (
+                          select 1 from orders x
+                          where x.user_id = uf.user_id
+                            and x.ordered_at >= date_sub(uf.as_of_date, interval ? month)
+                            and x.ordered_at < ?
+                      )
+                ) delta
+                left join orders o on o.user_id = delta.user_id and o.ordered_at >= ?
+                left join item_detail d on d.item_id = o.item_id
+                left join item_feature f on f.item_id = o.item_id
+                group by delta.user_id, d.brand_name
+            ) ub
+            group by ub.user_id
+            order by ub.user_id
+            """;
+
+    /**
+     * 이번 집계로 정할 수 없는 버킷(null)은 기존 값 유지, 조회 기간 내 주문이 없어 점수가 null 이면 버킷도 비움
+     */
+    private static final String UPSERT_SQL = """
+            insert into user_feature (user_id, as_of_date, brand_loyalty, price_sensitivity, benefit_sensitivity,
+                                      brand_loyalty_score, price_sensitivity_score, benefit_sensitivity_score,
+                                      created_at, updated_at)
+            values (:userId, :asOfDate, :brandLoyalty, :priceSensitivity, :benefitSensitivity,
+                    :brandLoyaltyScore, :priceSensitivityScore, :benefitSensitivityScore,
+                    now(6), now(6))
+            on duplicate key update
+                as_of_date = values(as_of_date),
+                brand_loyalty = if(values(brand_loyalty_score) is null, null, coalesce(values(brand_loyalty), brand_loyalty)),
+                price_sensitivity = if(values(price_sensitivity_score) is null, null, coalesce(values(price_sensitivity), price_sensitivity)),
+                benefit_sensitivity = if(values(benefit_sensitivity_score) is null, null, coalesce(values(benefit_sensitivity), benefit_sensitivity)),
+                brand_loyalty_score = values(brand_loyalty_score),
+                price_sensitivity_score = values(price_sensitivity_score),
+                benefit_sensitivity_score = values(benefit_sensitivity_score),
+                updated_at = now(6)
+            """;
+
+    @Value("${aketer.batch.user-feature.grid-size:0}")
+    private int gridSize;
+
+    @Value("${aketer.batch.user-feature.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${aketer.batch.user-feature.lookback-months:6}")
+    private int lookbackMonths;
+
+    @Value("${aketer.batch.user-feature.delta-days:1}")
+    private int deltaDays;
+
+    @Bean
+    public Step userFeatureUpdateStep(JobRepository jobRepository,
+                                      Step userFeatureUpdateWorkerStep,
+                                      JdbcTemplate jdbcTemplate) {
+        int partitions = gridSize > 0 ? gridSize : Runtime.getRuntime().availableProcessors();
+
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("user-feature-");
+        taskExecutor.setVirtualThreads(true);
+        taskExecutor.setConcurrencyLimit(partitions);
+
+        return new StepBuilder("UserFeatureUpdateStep", jobRepository)
+                .partitioner("UserFeatureUpdateWorkerStep", new UserIdRangePartitioner(jdbcTemplate))
+                .step(userFeatureUpdateWorkerStep)
+                .gridSize(partitions)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step userFeatureUpdateWorkerStep(JobRepository jobRepository,
+                                            PlatformTransactionManager tx,
+                                            JdbcCursorItemReader<UserPurchaseSummary> userPurchaseSummaryReader,
+                                            ItemProcessor<UserPurchaseSummary, UserFeatureScore> userFeatureScoreProcessor,
+                                            JdbcBatchItemWriter<UserFeatureScore> userFeatureWriter) {
+        return new StepBuilder("UserFeatureUpdateWorkerStep", jobRepository)
+                .<UserPurchaseSummary, UserFeatureScore>chunk(chunkSize, tx)
+                .reader(userPurchaseSummaryReader)
+                .processor(userFeatureScoreProcessor)
+                .writer(userFeatureWriter)
+                .listener(new ItemWriteListener<UserFeatureScore>() {
+                    // chunk 트랜잭션 안에서 실행 컨텍스트에 기록 → 쓰기와 같은 커밋으로 저장됨
+                    @Override
+                    public void afterWrite(Chunk<? extends UserFeatureScore> items) {
+                        if (!items.isEmpty()) {
+                            StepSynchronizationManager.getContext().getStepExecution().getExecutionContext()
+                                    .putLong(LAST_USER_ID, items.getItems().getLast().userId());
+                        }
+                    }
+                })
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<UserPurchaseSummary> userPurchaseSummaryReader(
+            DataSource dataSource,
+            @Value("#{stepExecution}") StepExecution stepExecution,
+            @Value("#{stepExecutionContext['" + UserIdRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + UserIdRangePartitioner.MAX_ID + "']}") Long maxId,
+            @Value("#{stepExecutionContext['" + LAST_USER_ID + "']}") Long lastUserId) {
+        long fromId = lastUserId == null ? minId : lastUserId + 1;
+        LocalDate asOfDate = asOfDate(stepExecution);
+        Timestamp deltaFrom = Timestamp.valueOf(asOfDate.minusDays(deltaDays).atStartOfDay());
+        Timestamp windowFrom = Timestamp.valueOf(asOfDate.minusMonths(lookbackMonths).atStartOfDay());
+
+        return new JdbcCursorItemReaderBuilder<UserPurchaseSummary>()
+                .name("userPurchaseSummaryReader")
+                .dataSource(dataSource)
+                .sql(SUMMARY_SQL)
+                .preparedStatementSetter(new ArgumentPreparedStatementSetter(new Object[]{
+                        fromId, maxId, deltaFrom,
+                        fromId, maxId, Date.valueOf(asOfDate.minusDays(deltaDays)),
+                        fromId, maxId,
+                        fromId, maxId, lookbackMonths, windowFrom,
+                        windowFrom
+                }))
+                // MySQL 스트리밍 커서 (결과 전체를 메모리에 올리지 않음), 커서는 리더 전용 커넥션이라 위치 검증 생략
+                .fetchSize(Integer.MIN_VALUE)
+                .verifyCursorPosition(false)
+                // 재시작 위치는 LAST_USER_ID 로 관리 (읽은 행 수를 저장해 skip 하지 않음)
+                .saveState(false)
+                .rowMapper((rs, rowNum) -> new UserPurchaseSummary(
+                        rs.getLong("user_id"),
+                        rs.getLong("order_cnt"),
+                        rs.getLong("brand_cnt"),
+                        rs.getLong("repeat_brand_order_cnt"),
+                        rs.getLong("discounted_cnt"),
+                        rs.getLong("benefit_cnt"),
+                        rs.getLong("value_cnt"),
+                        rs.getLong("premium_cnt"),
+                        rs.getLong("event_cnt"),
+                        rs.getLong("season_promo_cnt"),
+                        rs.getLong("free_gift_cnt")))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public ItemProcessor<UserPurchaseSummary, UserFeatureScore> userFeatureScoreProcessor(
+            UserFeatureUpdateService service,
+            @Value("#{stepExecution}") StepExecution stepExecution) {
+        LocalDate asOfDate = asOfDate(stepExecution);
+        return summary -> service.score(summary, asOfDate);
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<UserFeatureScore> userFeatureWriter(DataSource dataSource) {
+        return new JdbcBatchItemWriterBuilder<UserFeatureScore>()
+                .dataSource(dataSource)
+                .sql(UPSERT_SQL)
+                .itemSqlParameterSourceProvider(score -> new MapSqlParameterSource()
+                        .addValue("userId", score.userId())
+                        .addValue("asOfDate", Date.valueOf(score.asOfDate()))
+                        .addValue("brandLoyalty", score.brandLoyalty() == null ? null : score.brandLoyalty().name())
+                        .addValue("priceSensitivity", score.priceSensitivity() == null ? null : score.priceSensitivity().name())
+                        .addValue("benefitSensitivity", score.benefitSensitivity() == null ? null : score.benefitSensitivity().name())
+                        .addValue("brandLoyaltyScore", score.brandLoyaltyScore())
+                        .addValue("priceSensitivityScore", score.priceSensitivityScore())
+                        .addValue("benefitSensitivityScore", score.benefitSensitivityScore()))
+                // upsert 는 기존 행 갱신 시 영향 행 수가 2 라서 건별 1행 검증을 끔
+                .assertUpdates(false)
+                .build();
+    }
+
+    private static LocalDate asOfDate(StepExecution stepExecution) {
+        return LocalDate.parse(BatchParams.srchDt(stepExecution.getJobParameters()), YMD);
+    }
+}
@@ -0,0 +1,21 @@
+package com.amore.aketer.workflow.batch.dto;
+
+import com.amore.aketer.domain.enums.BenefitSensitivity;
+import com.amore.aketer.domain.enums.BrandLoyalty;
+import com.amore.aketer.domain.enums.PriceSensitivity;
+
+import java.time.LocalDate;
+
+/**
+ * 유저 피처 갱신 라이터 1행 (user_feature upsert 대상, 조회 기간 내 주문이 없으면 점수/버킷 모두 null)
+ */
+public record UserFeatureScore(
+        long userId,
+        LocalDate asOfDate,
+        BrandLoyalty brandLoyalty,
+        PriceSensitivity priceSensitivity,
+        BenefitSensitivity benefitSensitivity,
+        Double brandLoyaltyScore,
+        Double priceSensitivityScore,
+        Double benefitSensitivityScore
+) {}
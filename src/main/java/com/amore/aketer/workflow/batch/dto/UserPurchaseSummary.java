@@ -0,0 +1,24 @@
+package com.amore.aketer.workflow.batch.dto;
+
+/**
+ * 유저 피처 갱신 리더 1행: 유저별 조회 기간 내 주문 집계
+ *
+ * @param orderCnt            주문 수
+ * @param brandCnt            구매 브랜드 수
+ * @param repeatBrandOrderCnt 2회 이상 구매한 브랜드의 주문 수
+ * @param discountedCnt       정상가보다 낮은 단가로 구매한 주문 수
+ * @param benefitCnt          프로모션 상품 주문 수
+ */
+public record UserPurchaseSummary(
+        long userId,
+        long orderCnt,
+        long brandCnt,
+        long repeatBrandOrderCnt,
+        long discountedCnt,
+        long benefitCnt,
+        long valueCnt,
+        long premiumCnt,
+        long eventCnt,
+        long seasonPromoCnt,
+        long freeGiftCnt
+) {}
@@ -0,0 +1,46 @@
+package com.amore.aketer.workflow.batch.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * users.id 범위 파티셔너
+ *
+ * - min(id) ~ max(id) 를 gridSize 개의 연속 구간으로 나눠 파티션마다 minId / maxId 를 실행 컨텍스트에 담음
+ * - 파티션 이름(partition0 ~ N-1)이 gridSize 에만 의존하므로 재시작 시 같은 이름으로 이전 파티션 실행을 이어 받음
+ */
+@RequiredArgsConstructor
+public class UserIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long[] range = jdbcTemplate.queryForObject("select min(id), max(id) from users",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        long min = range[0];
+        long max = range[1];
+
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        // 유저가 없으면 min = max = 0 → 빈 구간 1개
+        long span = Math.max(1, (max - min + gridSize) / gridSize);
+        for (int i = 0; i < gridSize; i++) {
+            long from = min + span * i;
+            long to = i == gridSize - 1 ? max : Math.min(max, from + span - 1);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, from);
+            context.putLong(MAX_ID, to);
+            partitions.put("partition" + i, context);
+        }
+        return partitions;
+    }
+}
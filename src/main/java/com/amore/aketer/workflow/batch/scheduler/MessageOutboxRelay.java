@@ -0,0 +1,84 @@
+package com.amore.aketer.workflow.batch.scheduler;
+
+import com.amore.aketer.service.MessageDispatchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 발송 아웃박스 릴레이
+ *
+ * - 아웃박스를 id 순으로 batch-size 건씩 읽어 publisher confirm 으로 일괄 적재, ack 된 행은 삭제
+ * - 가득 찬 배치가 모두 확인되면 쉬지 않고 다음 배치로 진행해 broker 처리 속도로 적재
+ * - 확인되지 않은 행이 있으면 이번 주기를 마치고 다음 주기에 다시 시도 (broker 장애 시 재시도 폭주 방지)
+ * - 릴레이 후 ~ 삭제 전 장애 시 같은 메시지가 다시 적재될 수 있음 (at-least-once)
+ * - 확인 대기(최대 confirm-timeout) 동안 스레드를 잡고 있으므로 공용 @Scheduled 스레드가 아닌 전용 스레드에서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MessageOutboxRelay {
+
+    private final MessageDispatchService dispatchService;
+
+    @Value("${aketer.messaging.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${aketer.messaging.outbox.relay-interval:200}")
+    private long relayIntervalMillis;
+
+    private ScheduledExecutorService relayExecutor;
+
+    private final AtomicLong relayedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+
+    @PostConstruct
+    private void init() {
+        relayExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("outbox-relay").factory());
+        relayExecutor.scheduleWithFixedDelay(this::relay, relayIntervalMillis, relayIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        relayExecutor.shutdown();
+    }
+
+    public void relay() {
+        while (true) {
+            MessageDispatchService.RelayResult result;
+            try {
+                result = dispatchService.relayOutbox(batchSize);
+            } catch (Exception e) {
+                log.error("아웃박스 릴레이 실패", e);
+                return;
+            }
+
+            relayedCount.addAndGet(result.relayed() - result.failed());
+            failedCount.addAndGet(result.failed());
+
+            if (result.failed() > 0) {
+                log.warn("아웃박스 릴레이 미확인 {}건, 다음 주기에 재적재", result.failed());
+                return;
+            }
+            if (result.relayed() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        return Map.of(
+                "relayed", relayedCount.get(),
+                "failed", failedCount.get()
+        );
+    }
+}
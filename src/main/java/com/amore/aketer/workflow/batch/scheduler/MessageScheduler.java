@@ -1,59 +1,122 @@
 package com.amore.aketer.workflow.batch.scheduler;
 
-import com.amore.aketer.domain.message.MessageReservation;
-import com.amore.aketer.domain.message.MessageReservationRepository;
-import com.amore.aketer.domain.enums.MessageStatus;
-import com.amore.aketer.messaging.dto.MessagePayload;
-import com.amore.aketer.messaging.publisher.MessagePublisher;
+import com.amore.aketer.messaging.guard.ChannelSendGuard;
+import com.amore.aketer.messaging.retry.RetryBackoff;
+import com.amore.aketer.service.MessageDispatchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
+/**
+ * 예약 메시지 발송 스케줄러
+ *
+ * - 워커 N개가 batch-size 단위로 READY 예약을 선점(SKIP LOCKED)하고 아웃박스에 적재, 더 가져올 건이 없을 때까지 반복
+ * - 페이지마다 짧은 트랜잭션으로 커밋하므로 한 번에 모든 예약을 메모리에 올리거나 긴 트랜잭션을 잡지 않음
+ * - 큐 적재는 {@link MessageOutboxRelay} 가 아웃박스를 읽어 일괄 수행
+ * - 인스턴스가 늘어나도 서로 잠긴 행을 건너뛰므로 처리량이 인스턴스 수에 비례
+ * - 결과 반영 전에 컨슈머가 죽어 PENDING 에 남은 예약은 stale-pending 주기마다 재시도로 돌림
+ *   - 살아 있는 메시지의 updated_at 이 갱신되지 않는 최대 구간 = 메인 큐 적체 + 재시도 큐 1회 대기
+ *     (보류/재시도마다 컨슈머가 updated_at 을 갱신하므로 장애가 길어지거나 재시도 단계를 여러 번 거쳐도 구간이 늘지 않음)
+ *   - 기준 = stale-pending.after(큐 적체 허용 시간) + max(가장 긴 재시도 단계 지연, 가장 긴 회로 차단 시간)
+ *   - 메인 큐 적체가 after 를 넘으면 살아 있는 메시지도 재시도로 돌려 중복 발송될 수 있으므로 after 는 예상 최대 적체보다 길게 설정
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class MessageScheduler {
 
-    private final MessageReservationRepository reservationRepository;
-    private final MessagePublisher publisher;
+    private final MessageDispatchService dispatchService;
+    private final RetryBackoff retryBackoff;
+    private final ChannelSendGuard sendGuard;
 
-    @Scheduled(fixedDelay = 30_000)
-    @Transactional
+    @Value("${aketer.messaging.scheduler.batch-size:100}")
+    private int batchSize;
+
+    @Value("${aketer.messaging.scheduler.workers:4}")
+    private int workers;
+
+    @Value("${aketer.messaging.scheduler.stale-pending.after:1800}")
+    private long staleAfterSeconds;
+
+    private ExecutorService dispatchExecutor;
+
+    private long staleSeconds;
+
+    @PostConstruct
+    private void init() {
+        dispatchExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dispatch-", 0).factory());
+
+        List<Long> tierDelays = retryBackoff.getTierDelays();
+        long maxRetryWaitMillis = Math.max(tierDelays.get(tierDelays.size() - 1), sendGuard.getMaxOpenDurationMillis());
+        staleSeconds = staleAfterSeconds + (maxRetryWaitMillis + 999) / 1000;
+        log.info("PENDING 예약 정리 기준: {}초 (after={}초 + 재시도 큐 최대 대기 {}ms)", staleSeconds, staleAfterSeconds, maxRetryWaitMillis);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${aketer.messaging.scheduler.fixed-delay:30000}")
     public void scheduleMessages() {
         LocalDateTime now = LocalDateTime.now();
 
-        List<MessageReservation> readyMessages = reservationRepository.findByStatusAndScheduledAtBefore(
-            MessageStatus.READY, now);
+        List<CompletableFuture<Integer>> futures = IntStream.range(0, workers)
+                .mapToObj(worker -> CompletableFuture.supplyAsync(() -> drain(now), dispatchExecutor))
+                .toList();
 
-        if (readyMessages.isEmpty()) {
+        int dispatched = futures.stream().mapToInt(CompletableFuture::join).sum();
+
+        if (dispatched == 0) {
             log.debug("예정된 메시지가 없습니다 {}", now);
             return;
         }
 
-        log.info("Scheduling {} messages", readyMessages.size());
+        log.info("메시지 배치 완료: {}건 (workers={}, batchSize={})", dispatched, workers, batchSize);
+    }
 
-        for (MessageReservation reservation : readyMessages) {
-            try {
-                reservation.pending();
-                reservationRepository.save(reservation);
+    @Scheduled(fixedDelayString = "${aketer.messaging.scheduler.stale-pending.interval:300000}")
+    public void sweepStalePending() {
+        try {
+            int swept = dispatchService.sweepStalePending(staleSeconds, batchSize);
+            if (swept > 0) {
+                log.warn("결과 미반영 PENDING 예약 재시도 처리: {}건", swept);
+            }
+        } catch (Exception e) {
+            log.error("PENDING 예약 정리 실패", e);
+        }
+    }
 
-                MessagePayload payload = MessagePayload.of(reservation, UUID.randomUUID().toString());
+    /**
+     * 워커 1개: 선점할 건이 없거나 마지막 페이지(batch-size 미만)일 때까지 선점(+ 아웃박스 적재) 반복
+     */
+    private int drain(LocalDateTime now) {
+        int dispatched = 0;
 
-                publisher.publishMessage(payload);
+        while (true) {
+            int claimed;
+            try {
+                claimed = dispatchService.claimReady(now, batchSize);
+            } catch (Exception e) {
+                log.error("메시지 선점 실패", e);
+                return dispatched;
+            }
 
-                log.info("메시지 배치 성공: reservationId={}", reservation.getId());
+            dispatched += claimed;
 
-            } catch (ObjectOptimisticLockingFailureException e) {
-                log.warn("다른 스케줄러에 의해 이미 실행되고 있습니다 reservationId={}", reservation.getId());
-            } catch (Exception e) {
-                log.error("메시지 배치 실패: reservationId={}", reservation.getId(), e);
+            if (claimed < batchSize) {
+                return dispatched;
             }
         }
     }
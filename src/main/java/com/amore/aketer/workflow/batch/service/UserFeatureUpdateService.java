@@ -1,17 +1,87 @@
 package com.amore.aketer.workflow.batch.service;
 
-import com.amore.aketer.workflow.batch.OfflineBatchUsecase;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.amore.aketer.domain.enums.BenefitSensitivity;
+import com.amore.aketer.domain.enums.BrandLoyalty;
+import com.amore.aketer.domain.enums.PriceSensitivity;
+import com.amore.aketer.workflow.batch.dto.UserFeatureScore;
+import com.amore.aketer.workflow.batch.dto.UserPurchaseSummary;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+
+/**
+ * 유저 피처 점수/버킷 계산 (UserFeatureUpdateStep 의 processor)
+ *
+ * - brand_loyalty_score: 2회 이상 구매한 브랜드의 주문 비율
+ * - price_sensitivity_score: 정상가보다 낮은 단가로 구매한 주문 비율
+ * - benefit_sensitivity_score: 프로모션 상품 주문 비율
+ * - 읽기/쓰기와 파티셔닝은 {@link com.amore.aketer.workflow.batch.config.UserFeatureUpdateStepConfig} 참고
+ */
 @Service
-public class UserFeatureUpdateService implements OfflineBatchUsecase {
-    private static final Logger log = LoggerFactory.getLogger(UserFeatureUpdateService.class);
+public class UserFeatureUpdateService {
+
+    static final double LOYAL_THRESHOLD = 0.5;
+    static final double DISCOUNT_THRESHOLD = 0.5;
+
+    /**
+     * @return 조회 기간 내 주문이 없으면 점수/버킷을 모두 비운 결과 (기간이 지난 피처를 지우도록 쓰기 대상에 포함)
+     */
+    public UserFeatureScore score(UserPurchaseSummary summary, LocalDate asOfDate) {
+        if (summary.orderCnt() == 0) {
+            return new UserFeatureScore(summary.userId(), asOfDate, null, null, null, null, null, null);
+        }
+
+        double brandLoyaltyScore = ratio(summary.repeatBrandOrderCnt(), summary.orderCnt());
+        double priceSensitivityScore = ratio(summary.discountedCnt(), summary.orderCnt());
+        double benefitSensitivityScore = ratio(summary.benefitCnt(), summary.orderCnt());
+
+        return new UserFeatureScore(
+                summary.userId(),
+                asOfDate,
+                brandLoyalty(summary, brandLoyaltyScore),
+                priceSensitivity(summary, priceSensitivityScore),
+                benefitSensitivity(summary),
+                brandLoyaltyScore,
+                priceSensitivityScore,
+                benefitSensitivityScore
+        );
+    }
+
+    private BrandLoyalty brandLoyalty(UserPurchaseSummary summary, double score) {
+        if (summary.brandCnt() == 0) {
+            return null;
+        }
+        if (summary.brandCnt() == 1 && summary.orderCnt() >= 2) {
+            return BrandLoyalty.SINGLE_BRAND_LOYAL;
+        }
+        return score >= LOYAL_THRESHOLD ? BrandLoyalty.CATEGORY_SPLIT_BY_BRAND : BrandLoyalty.MULTI_BRAND_MIX;
+    }
+
+    private PriceSensitivity priceSensitivity(UserPurchaseSummary summary, double score) {
+        if (score >= DISCOUNT_THRESHOLD) {
+            return PriceSensitivity.DISCOUNT_APPLIED_PRODUCT;
+        }
+        if (summary.valueCnt() == 0 && summary.premiumCnt() == 0) {
+            return null;
+        }
+        return summary.premiumCnt() > summary.valueCnt() ? PriceSensitivity.PREMIUM : PriceSensitivity.VALUE;
+    }
+
+    /**
+     * 가장 많이 구매한 프로모션 유형 (동률이면 기획전 > 시즌 프로모션 > 증정품)
+     */
+    private BenefitSensitivity benefitSensitivity(UserPurchaseSummary summary) {
+        long max = Math.max(summary.eventCnt(), Math.max(summary.seasonPromoCnt(), summary.freeGiftCnt()));
+        if (max == 0) {
+            return null;
+        }
+        if (summary.eventCnt() == max) {
+            return BenefitSensitivity.EVENT;
+        }
+        return summary.seasonPromoCnt() == max ? BenefitSensitivity.SEASON_PROMO : BenefitSensitivity.FREE_GIFT;
+    }
 
-    @Override
-    public void run(String srchDt) {
-        // TODO : 유저 리뷰/구매 delta 읽기 -> feature 정규화/임베딩 -> 저장
-        log.info("[STUB] UserFeatureUpdateService.run srchDt={}", srchDt);
+    private static double ratio(long part, long total) {
+        return (double) part / total;
     }
 }
@@ -0,0 +1,43 @@
+package com.amore.aketer.workflow.online.agent.advisor;
+
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import com.amore.aketer.workflow.online.agent.state.PersonaState;
+import org.springframework.ai.chat.client.ChatClient;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드에서 ChatClient 호출 시 Advisor 로 전달하는 파라미터
+ *
+ * 사용 예: chatClient.prompt().advisors(AgentAdvisorParams.cached("validate_draft_message", state))
+ */
+public final class AgentAdvisorParams {
+
+    private AgentAdvisorParams() {}
+
+    /**
+     * 동일 프롬프트에 대해 응답 캐시를 사용하는 호출
+     */
+    public static Consumer<ChatClient.AdvisorSpec> cached(String nodeName, MessageState state) {
+        return a -> a.param(LlmResponseCacheAdvisor.NODE_NAME, nodeName)
+                .param(LlmResponseCacheAdvisor.CACHEABLE, true)
+                .param(RateLimitAdvisor.FAIR_KEY, fairKey(state));
+    }
+
+    /**
+     * 캐시를 사용하지 않는 호출 (현재 시각/재시도 피드백 등으로 매번 새 응답이 필요한 경우)
+     */
+    public static Consumer<ChatClient.AdvisorSpec> uncached(String nodeName, MessageState state) {
+        return a -> a.param(LlmResponseCacheAdvisor.NODE_NAME, nodeName)
+                .param(LlmResponseCacheAdvisor.CACHEABLE, false)
+                .param(RateLimitAdvisor.FAIR_KEY, fairKey(state));
+    }
+
+    /**
+     * 요청 한도 대기열의 공정성 키 (페르소나 id 단위, 이름은 바뀌거나 겹칠 수 있어 사용하지 않음)
+     */
+    private static String fairKey(MessageState state) {
+        PersonaState persona = state.getPersona();
+        return (persona != null && persona.getId() != null) ? String.valueOf(persona.getId()) : "default";
+    }
+}
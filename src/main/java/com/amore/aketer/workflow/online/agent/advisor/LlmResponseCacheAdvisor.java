@@ -0,0 +1,297 @@
+package com.amore.aketer.workflow.online.agent.advisor;
+
+import com.amore.aketer.common.cache.TtlLruCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * LLM 프롬프트-응답 캐시 Advisor
+ *
+ * - 캐시 키: 정규화된 프롬프트(공백 압축) + 모델 + temperature 의 SHA-256
+ * - 1차: TTL/LRU 인메모리 캐시, 2차(선택): 디스크 캐시 (재시작 후에도 hit 유지)
+ * - 노드가 {@link AgentAdvisorParams#cached(String, com.amore.aketer.workflow.online.agent.state.MessageState)} 로 명시한 호출만 캐시 대상 (재시도 피드백이 담긴 생성 호출 등은 제외)
+ * - 스트리밍 호출: hit 이면 캐시된 응답을 한 번에 내보내고, miss 면 정상 완료된 스트림만 저장 (조기 취소된 부분 응답은 저장하지 않음)
+ * - 노드별 hit/miss 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LlmResponseCacheAdvisor implements CallAdvisor, StreamAdvisor {
+
+    public static final String NODE_NAME = "aketer.agent.node";
+    public static final String CACHEABLE = "aketer.agent.cacheable";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${aketer.agent.llm-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aketer.agent.llm-cache.ttl:86400000}")
+    private long ttlMillis;
+
+    @Value("${aketer.agent.llm-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${aketer.agent.llm-cache.disk.enabled:false}")
+    private boolean diskEnabled;
+
+    @Value("${aketer.agent.llm-cache.disk.path:./cache/llm}")
+    private String diskPath;
+
+    @Value("${spring.ai.openai.chat.options.model:}")
+    private String defaultModel;
+
+    @Value("${spring.ai.openai.chat.options.temperature:}")
+    private String defaultTemperature;
+
+    private TtlLruCache<String, String> memoryCache;
+    private Path diskDirectory;
+
+    private final Map<String, LongAdder> hits = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> misses = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    private void init() throws IOException {
+        memoryCache = new TtlLruCache<>(maxEntries, ttlMillis);
+        if (diskEnabled) {
+            diskDirectory = Files.createDirectories(Paths.get(diskPath));
+            log.info("LLM 응답 디스크 캐시 활성화: {}", diskDirectory.toAbsolutePath());
+        }
+    }
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+        Object nodeName = chatClientRequest.context().get(NODE_NAME);
+        boolean cacheable = Boolean.TRUE.equals(chatClientRequest.context().get(CACHEABLE));
+
+        if (!enabled || nodeName == null || !cacheable) {
+            return callAdvisorChain.nextCall(chatClientRequest);
+        }
+
+        String key = cacheKey(chatClientRequest.prompt());
+        String cached = lookup(key);
+
+        if (cached != null) {
+            counter(hits, nodeName.toString()).increment();
+            log.debug("[LlmResponseCache] hit - node: {}", nodeName);
+            return cachedResponse(chatClientRequest, cached);
+        }
+
+        counter(misses, nodeName.toString()).increment();
+        ChatClientResponse response = callAdvisorChain.nextCall(chatClientRequest);
+
+        String text = extractText(response);
+        if (text != null && !text.isBlank()) {
+            store(key, text);
+        }
+
+        return response;
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest, StreamAdvisorChain streamAdvisorChain) {
+        Object nodeName = chatClientRequest.context().get(NODE_NAME);
+        boolean cacheable = Boolean.TRUE.equals(chatClientRequest.context().get(CACHEABLE));
+
+        if (!enabled || nodeName == null || !cacheable) {
+            return streamAdvisorChain.nextStream(chatClientRequest);
+        }
+
+        // 디스크 캐시 조회가 구독 시점(노드 실행 스레드)에 일어나도록 지연
+        return Flux.defer(() -> {
+            String key = cacheKey(chatClientRequest.prompt());
+            String cached = lookup(key);
+
+            if (cached != null) {
+                counter(hits, nodeName.toString()).increment();
+                log.debug("[LlmResponseCache] stream hit - node: {}", nodeName);
+                return Flux.just(cachedResponse(chatClientRequest, cached));
+            }
+
+            counter(misses, nodeName.toString()).increment();
+            StringBuilder text = new StringBuilder();
+            return streamAdvisorChain.nextStream(chatClientRequest)
+                    .doOnNext(response -> {
+                        String chunk = extractText(response);
+                        if (chunk != null) {
+                            text.append(chunk);
+                        }
+                    })
+                    // 취소(cancel) 시에는 호출되지 않으므로 끝까지 받은 응답만 저장됨
+                    .doOnComplete(() -> {
+                        if (!text.toString().isBlank()) {
+                            store(key, text.toString());
+                        }
+                    });
+        });
+    }
+
+    @Override
+    public String getName() {
+        return "LlmResponseCacheAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 캐시 hit 시 이후 Advisor(요청 제한 등)를 거치지 않도록 가장 먼저 실행
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+
+    /**
+     * 노드별 hit/miss 현황
+     */
+    public Map<String, Map<String, Long>> getCurrentStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        Stream.concat(hits.keySet().stream(), misses.keySet().stream())
+                .distinct()
+                .sorted()
+                .forEach(node -> stats.put(node, Map.of(
+                        "hit", counter(hits, node).sum(),
+                        "miss", counter(misses, node).sum()
+                )));
+        return stats;
+    }
+
+    /**
+     * 만료된 디스크 캐시 파일 정리 (1시간 주기)
+     */
+    @Scheduled(fixedDelay = 3_600_000)
+    public void evictExpiredDiskEntries() {
+        if (diskDirectory == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        try (Stream<Path> files = Files.list(diskDirectory)) {
+            files.filter(file -> file.toString().endsWith(".json"))
+                    .forEach(file -> {
+                        try {
+                            if (now - Files.getLastModifiedTime(file).toMillis() >= ttlMillis) {
+                                Files.deleteIfExists(file);
+                            }
+                        } catch (IOException e) {
+                            log.warn("[LlmResponseCache] 디스크 캐시 정리 실패: {}", file, e);
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("[LlmResponseCache] 디스크 캐시 디렉토리 조회 실패", e);
+        }
+    }
+
+    private String lookup(String key) {
+        String cached = memoryCache.get(key);
+        if (cached != null || diskDirectory == null) {
+            return cached;
+        }
+
+        Path file = diskDirectory.resolve(key + ".json");
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            DiskEntry entry = objectMapper.readValue(file.toFile(), DiskEntry.class);
+            if (System.currentTimeMillis() - entry.createdAt() >= ttlMillis) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            memoryCache.put(key, entry.text(), entry.createdAt());
+            return entry.text();
+        } catch (IOException e) {
+            log.warn("[LlmResponseCache] 디스크 캐시 읽기 실패: {}", file, e);
+            return null;
+        }
+    }
+
+    private void store(String key, String text) {
+        memoryCache.put(key, text);
+
+        if (diskDirectory == null) {
+            return;
+        }
+
+        Path file = diskDirectory.resolve(key + ".json");
+        try {
+            Path tmp = Files.createTempFile(diskDirectory, key, ".tmp");
+            objectMapper.writeValue(tmp.toFile(), new DiskEntry(System.currentTimeMillis(), text));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[LlmResponseCache] 디스크 캐시 쓰기 실패: {}", file, e);
+        }
+    }
+
+    private String cacheKey(Prompt prompt) {
+        ChatOptions options = prompt.getOptions();
+        String model = (options != null && options.getModel() != null) ? options.getModel() : defaultModel;
+        String temperature = (options != null && options.getTemperature() != null)
+                ? String.valueOf(options.getTemperature())
+                : defaultTemperature;
+
+        String normalized = prompt.getContents().replaceAll("\\s+", " ").trim();
+        return sha256(model + "|" + temperature + "|" + normalized);
+    }
+
+    private static ChatClientResponse cachedResponse(ChatClientRequest chatClientRequest, String text) {
+        return ChatClientResponse.builder()
+                .chatResponse(new ChatResponse(List.of(new Generation(new AssistantMessage(text)))))
+                .context(chatClientRequest.context())
+                .build();
+    }
+
+    private static String extractText(ChatClientResponse response) {
+        ChatResponse chatResponse = response.chatResponse();
+        if (chatResponse == null || chatResponse.getResult() == null || chatResponse.getResult().getOutput() == null) {
+            return null;
+        }
+        return chatResponse.getResult().getOutput().getText();
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String node) {
+        return counters.computeIfAbsent(node, k -> new LongAdder());
+    }
+
+    record DiskEntry(long createdAt, String text) {}
+}
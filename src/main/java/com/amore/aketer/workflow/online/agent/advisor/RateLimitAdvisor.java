@@ -0,0 +1,218 @@
+package com.amore.aketer.workflow.online.agent.advisor;
+
+import com.amore.aketer.workflow.online.agent.ratelimit.ModelRateLimiter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClientRequest;
+import org.springframework.ai.chat.client.ChatClientResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAdvisorChain;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import reactor.core.publisher.Flux;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * OpenAI 요청/토큰 한도 Advisor
+ *
+ * - 모델별 RPM/TPM 토큰 버킷으로 호출 전 대기 ({@link ModelRateLimiter})
+ * - 토큰 추정: 프롬프트 글자 수 / chars-per-token + 예상 출력 토큰, 응답의 usage 로 사후 보정
+ * - 페르소나 단위 공정 대기열 (공정성 키: {@link AgentAdvisorParams} 로 전달)
+ * - 429/5xx 응답 시 제한기에 백오프를 알리고 재시도 (Spring AI 내부 재시도 대신 여기서 일괄 제어)
+ * - 스트리밍 호출도 같은 한도로 대기, 단 일부 토큰을 이미 내보냈을 수 있어 재시도하지 않음 (노드에서 일반 호출로 대체)
+ * - 응답 캐시 Advisor 다음에 실행되므로 캐시 hit 은 한도를 소모하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitAdvisor implements CallAdvisor, StreamAdvisor {
+
+    public static final String FAIR_KEY = "aketer.agent.fair-key";
+
+    private static final String DEFAULT_FAIR_KEY = "default";
+
+    private final Environment environment;
+
+    @Value("${aketer.agent.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aketer.agent.rate-limit.chars-per-token:2.0}")
+    private double charsPerToken;
+
+    @Value("${aketer.agent.rate-limit.expected-output-tokens:500}")
+    private int expectedOutputTokens;
+
+    @Value("${aketer.agent.rate-limit.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${spring.ai.openai.chat.options.model:}")
+    private String defaultModel;
+
+    private final Map<String, ModelRateLimiter> limiters = new ConcurrentHashMap<>();
+
+    @Override
+    public ChatClientResponse adviseCall(ChatClientRequest chatClientRequest, CallAdvisorChain callAdvisorChain) {
+        if (!enabled) {
+            return callAdvisorChain.nextCall(chatClientRequest);
+        }
+
+        Prompt prompt = chatClientRequest.prompt();
+        String model = resolveModel(prompt);
+        ModelRateLimiter limiter = limiters.computeIfAbsent(model, this::createLimiter);
+
+        Object fairKey = chatClientRequest.context().get(FAIR_KEY);
+        int estimatedTokens = estimateTokens(prompt);
+
+        for (int attempt = 1; ; attempt++) {
+            acquire(limiter, fairKey != null ? fairKey.toString() : DEFAULT_FAIR_KEY, estimatedTokens);
+
+            try {
+                // 재시도 시에도 이후 Advisor 체인을 처음부터 다시 타도록 체인을 복사해서 호출
+                ChatClientResponse response = callAdvisorChain.copy(this).nextCall(chatClientRequest);
+                limiter.onSuccess(estimatedTokens, actualTokens(response));
+                return response;
+            } catch (RuntimeException e) {
+                if (!isThrottled(e) || attempt >= maxAttempts) {
+                    throw e;
+                }
+                long backoff = limiter.onThrottled();
+                log.warn("[RateLimit] {} 요청 제한/서버 오류, {}ms 후 재시도 ({}/{}): {}",
+                        model, backoff, attempt, maxAttempts, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public Flux<ChatClientResponse> adviseStream(ChatClientRequest chatClientRequest, StreamAdvisorChain streamAdvisorChain) {
+        if (!enabled) {
+            return streamAdvisorChain.nextStream(chatClientRequest);
+        }
+
+        Prompt prompt = chatClientRequest.prompt();
+        String model = resolveModel(prompt);
+        ModelRateLimiter limiter = limiters.computeIfAbsent(model, this::createLimiter);
+
+        Object fairKey = chatClientRequest.context().get(FAIR_KEY);
+        int estimatedTokens = estimateTokens(prompt);
+        AtomicReference<Integer> actualTokens = new AtomicReference<>();
+
+        // 한도 대기는 구독 시점(노드 실행 스레드)에서 수행
+        return Flux.defer(() -> {
+                    acquire(limiter, fairKey != null ? fairKey.toString() : DEFAULT_FAIR_KEY, estimatedTokens);
+                    return streamAdvisorChain.nextStream(chatClientRequest);
+                })
+                .doOnNext(response -> {
+                    Integer tokens = actualTokens(response);
+                    if (tokens != null && tokens > 0) {
+                        actualTokens.set(tokens);
+                    }
+                })
+                .doOnError(e -> {
+                    if (isThrottled(e)) {
+                        long backoff = limiter.onThrottled();
+                        log.warn("[RateLimit] {} 스트리밍 요청 제한/서버 오류, 이후 요청 {}ms 대기: {}", model, backoff, e.getMessage());
+                    }
+                })
+                // 조기 취소된 스트림은 usage 가 오지 않으므로 추정치 그대로 반영
+                .doOnComplete(() -> limiter.onSuccess(estimatedTokens, actualTokens.get()))
+                .doOnCancel(() -> limiter.onSuccess(estimatedTokens, actualTokens.get()));
+    }
+
+    @Override
+    public String getName() {
+        return "RateLimitAdvisor";
+    }
+
+    @Override
+    public int getOrder() {
+        // 응답 캐시 Advisor 다음
+        return Ordered.HIGHEST_PRECEDENCE + 200;
+    }
+
+    /**
+     * 모델별 제한기 현황
+     */
+    public Map<String, Map<String, Object>> getCurrentStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        limiters.forEach((model, limiter) -> stats.put(model, limiter.getCurrentStats()));
+        return stats;
+    }
+
+    private void acquire(ModelRateLimiter limiter, String fairKey, int estimatedTokens) {
+        try {
+            limiter.acquire(fairKey, estimatedTokens);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("요청 한도 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 모델별 한도: aketer.agent.rate-limit.models.{model}.rpm/tpm, 없으면 기본값 사용
+     */
+    private ModelRateLimiter createLimiter(String model) {
+        double rpm = modelProperty(model, "rpm", 500d);
+        double tpm = modelProperty(model, "tpm", 200_000d);
+        double utilization = environment.getProperty("aketer.agent.rate-limit.utilization", Double.class, 0.9);
+        double burstSeconds = environment.getProperty("aketer.agent.rate-limit.burst-seconds", Double.class, 10d);
+        long initialBackoff = environment.getProperty("aketer.agent.rate-limit.backoff.initial", Long.class, 1_000L);
+        long maxBackoff = environment.getProperty("aketer.agent.rate-limit.backoff.max", Long.class, 60_000L);
+
+        log.info("[RateLimit] {} 제한기 생성 - rpm: {}, tpm: {}, utilization: {}", model, rpm, tpm, utilization);
+        return new ModelRateLimiter(model, rpm * utilization, tpm * utilization, burstSeconds, initialBackoff, maxBackoff);
+    }
+
+    private double modelProperty(String model, String name, double defaultValue) {
+        Double value = environment.getProperty("aketer.agent.rate-limit.models." + model + "." + name, Double.class);
+        return value != null
+                ? value
+                : environment.getProperty("aketer.agent.rate-limit." + name, Double.class, defaultValue);
+    }
+
+    private String resolveModel(Prompt prompt) {
+        ChatOptions options = prompt.getOptions();
+        return (options != null && options.getModel() != null) ? options.getModel() : defaultModel;
+    }
+
+    private int estimateTokens(Prompt prompt) {
+        return (int) Math.ceil(prompt.getContents().length() / charsPerToken) + expectedOutputTokens;
+    }
+
+    private static Integer actualTokens(ChatClientResponse response) {
+        ChatResponse chatResponse = response.chatResponse();
+        if (chatResponse == null || chatResponse.getMetadata() == null || chatResponse.getMetadata().getUsage() == null) {
+            return null;
+        }
+        return chatResponse.getMetadata().getUsage().getTotalTokens();
+    }
+
+    private static boolean isThrottled(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TransientAiException
+                    || t instanceof HttpClientErrorException.TooManyRequests
+                    || t instanceof HttpServerErrorException) {
+                return true;
+            }
+            // Spring AI 는 4xx 를 NonTransientAiException("429 - ...") 으로 변환
+            String message = t.getMessage();
+            if (message != null && message.startsWith("429")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,123 @@
+package com.amore.aketer.workflow.online.agent.evaluation;
+
+import com.amore.aketer.workflow.online.agent.node.GenerateEthicsPolicyKeywordNode;
+import com.amore.aketer.workflow.online.agent.node.RetrieveEthicsPolicyByMessageNode;
+import com.amore.aketer.workflow.online.agent.node.RetrieveEthicsPolicyNode;
+import com.amore.aketer.workflow.online.agent.node.ValidateEthicsPolicyNode;
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bsc.langgraph4j.action.AsyncNodeAction;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 윤리 강령 검증 standard / fast 모드 A/B 비교
+ *
+ * - 같은 메시지 상태로 두 경로를 각각 실행해 최종 판정(pass/fail) 일치 여부와 소요 시간을 비교
+ *   - standard: 키워드 추천(LLM) → 키워드 검색 → 검증(LLM)
+ *   - fast: 메시지 직접 검색 → 검증(LLM)
+ * - 누적 일치율 / 불일치 유형 / 평균 소요 시간 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EthicsModeComparator {
+
+    private final GenerateEthicsPolicyKeywordNode generateEthicsPolicyKeywordNode;
+    private final RetrieveEthicsPolicyNode retrieveEthicsPolicyNode;
+    private final RetrieveEthicsPolicyByMessageNode retrieveEthicsPolicyByMessageNode;
+    private final ValidateEthicsPolicyNode validateEthicsPolicyNode;
+
+    private final AtomicLong comparedCount = new AtomicLong(0);
+    private final AtomicLong agreedCount = new AtomicLong(0);
+    private final AtomicLong standardOnlyFailCount = new AtomicLong(0);
+    private final AtomicLong fastOnlyFailCount = new AtomicLong(0);
+    private final AtomicLong standardMillisTotal = new AtomicLong(0);
+    private final AtomicLong fastMillisTotal = new AtomicLong(0);
+
+    public EthicsComparison compare(MessageState state) {
+        long startTime = System.currentTimeMillis();
+        MessageState standard = run(state,
+                generateEthicsPolicyKeywordNode, retrieveEthicsPolicyNode, validateEthicsPolicyNode);
+        long standardMillis = System.currentTimeMillis() - startTime;
+
+        startTime = System.currentTimeMillis();
+        MessageState fast = run(state,
+                retrieveEthicsPolicyByMessageNode, validateEthicsPolicyNode);
+        long fastMillis = System.currentTimeMillis() - startTime;
+
+        EthicsComparison comparison = new EthicsComparison(
+                standard.getValidation(), fast.getValidation(),
+                standardMillis, fastMillis,
+                standard.getEthicsFailureReasons(), fast.getEthicsFailureReasons());
+
+        record(comparison);
+        log.info("[EthicsModeComparator] standard: {} ({}ms), fast: {} ({}ms), 일치: {}",
+                comparison.standardVerdict(), standardMillis, comparison.fastVerdict(), fastMillis, comparison.agreed());
+
+        return comparison;
+    }
+
+    public Map<String, Object> getCurrentStats() {
+        long compared = comparedCount.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("compared", compared);
+        stats.put("agreementRate", compared == 0 ? 0.0 : (double) agreedCount.get() / compared);
+        stats.put("standardOnlyFail", standardOnlyFailCount.get());
+        stats.put("fastOnlyFail", fastOnlyFailCount.get());
+        stats.put("avgStandardMillis", compared == 0 ? 0 : standardMillisTotal.get() / compared);
+        stats.put("avgFastMillis", compared == 0 ? 0 : fastMillisTotal.get() / compared);
+        return stats;
+    }
+
+    @SafeVarargs
+    private MessageState run(MessageState state, AsyncNodeAction<MessageState>... nodes) {
+        Map<String, Object> data = new HashMap<>(state.data());
+        // 이전 검증 결과가 섞이지 않도록 초기화
+        data.remove(MessageState.VALIDATION);
+        data.remove(MessageState.ETHICS_FAILURE_REASONS);
+
+        for (AsyncNodeAction<MessageState> node : nodes) {
+            try {
+                data.putAll(node.apply(new MessageState(data)).join());
+            } catch (Exception e) {
+                throw new IllegalStateException("윤리 강령 비교 실행 중 오류가 발생했습니다.", e);
+            }
+        }
+        return new MessageState(data);
+    }
+
+    private void record(EthicsComparison comparison) {
+        comparedCount.incrementAndGet();
+        standardMillisTotal.addAndGet(comparison.standardMillis());
+        fastMillisTotal.addAndGet(comparison.fastMillis());
+
+        if (comparison.agreed()) {
+            agreedCount.incrementAndGet();
+        } else if ("fail".equals(comparison.standardVerdict())) {
+            standardOnlyFailCount.incrementAndGet();
+        } else {
+            fastOnlyFailCount.incrementAndGet();
+        }
+    }
+
+    public record EthicsComparison(
+            String standardVerdict,
+            String fastVerdict,
+            long standardMillis,
+            long fastMillis,
+            List<String> standardReasons,
+            List<String> fastReasons
+    ) {
+        public boolean agreed() {
+            return standardVerdict != null && standardVerdict.equals(fastVerdict);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.amore.aketer.workflow.online.agent.executor;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LangGraph 노드 실행 전용 Executor
+ *
+ * - 노드 작업(LLM / 벡터 검색 등 블로킹 HTTP 호출)을 ForkJoinPool.commonPool 대신 이름 있는 가상 스레드에서 실행
+ * - 동시에 실행되는 노드 작업 수는 세마포어로 제한 (aketer.agent.executor.max-concurrency), 초과분은 대기열에서 대기
+ * - {@link #execute(Runnable)} 는 노드 내부의 보조 I/O fan-out 용으로 동시 실행 제한 없이 가상 스레드에서 실행
+ *   (노드 작업이 같은 한도의 하위 작업을 기다리다 교착되는 것을 방지)
+ * - 대기/실행/완료/실패 건수 집계
+ */
+@Slf4j
+@Component
+public class AgentExecutor implements Executor {
+
+    @Value("${aketer.agent.executor.max-concurrency:32}")
+    private int maxConcurrency;
+
+    private ExecutorService executor;
+    private Semaphore permits;
+
+    private final AtomicInteger queuedCount = new AtomicInteger(0);
+    private final AtomicInteger activeCount = new AtomicInteger(0);
+    private final AtomicLong completedCount = new AtomicLong(0);
+    private final AtomicLong failedCount = new AtomicLong(0);
+    private final AtomicLong totalQueueWaitMillis = new AtomicLong(0);
+
+    @PostConstruct
+    private void init() {
+        executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("agent-", 0).factory());
+        permits = new Semaphore(maxConcurrency, true);
+        log.info("Agent executor 초기화 - 최대 동시 실행: {}", maxConcurrency);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 노드 작업 실행 (동시 실행 한도 적용)
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        long submittedAt = System.currentTimeMillis();
+        queuedCount.incrementAndGet();
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                queuedCount.decrementAndGet();
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+
+            queuedCount.decrementAndGet();
+            activeCount.incrementAndGet();
+            totalQueueWaitMillis.addAndGet(System.currentTimeMillis() - submittedAt);
+
+            try {
+                T result = task.get();
+                completedCount.incrementAndGet();
+                return result;
+            } catch (RuntimeException e) {
+                failedCount.incrementAndGet();
+                throw e;
+            } finally {
+                activeCount.decrementAndGet();
+                permits.release();
+            }
+        }, executor);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    public Map<String, Object> getCurrentStats() {
+        long started = completedCount.get() + failedCount.get() + activeCount.get();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxConcurrency", maxConcurrency);
+        stats.put("queued", queuedCount.get());
+        stats.put("active", activeCount.get());
+        stats.put("completed", completedCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("avgQueueWaitMillis", started == 0 ? 0 : totalQueueWaitMillis.get() / started);
+        return stats;
+    }
+}
@@ -0,0 +1,49 @@
+package com.amore.aketer.workflow.online.agent.graph;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * MessageGraph 검증 루프 지표
+ *
+ * - iterations: 검증 실패로 이전 노드로 되돌아간 횟수
+ * - exhausted: 루프 예산 소진으로 다음 단계로 넘기거나(best-effort) 종료한 횟수
+ * - aborted: 전체 예산 소진으로 그래프를 종료한 횟수
+ */
+@Component
+public class GraphLoopMetrics {
+
+    private final Map<String, LongAdder> iterations = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> exhausted = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> aborted = new ConcurrentHashMap<>();
+
+    public void recordIteration(String loop) {
+        counter(iterations, loop).increment();
+    }
+
+    public void recordExhausted(String loop) {
+        counter(exhausted, loop).increment();
+    }
+
+    public void recordAborted(String loop) {
+        counter(aborted, loop).increment();
+    }
+
+    public Map<String, Map<String, Long>> getCurrentStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        iterations.keySet().stream().sorted().forEach(loop -> stats.put(loop, Map.of(
+                "iterations", counter(iterations, loop).sum(),
+                "exhausted", counter(exhausted, loop).sum(),
+                "aborted", counter(aborted, loop).sum()
+        )));
+        return stats;
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String loop) {
+        return counters.computeIfAbsent(loop, k -> new LongAdder());
+    }
+}
@@ -5,23 +5,45 @@ import com.amore.aketer.workflow.online.agent.state.MessageState;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bsc.langgraph4j.CompiledGraph;
 import org.bsc.langgraph4j.GraphStateException;
 import org.bsc.langgraph4j.StateGraph;
 import org.bsc.langgraph4j.action.AsyncEdgeAction;
+import org.bsc.langgraph4j.action.AsyncNodeAction;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static org.bsc.langgraph4j.GraphDefinition.END;
 import static org.bsc.langgraph4j.GraphDefinition.START;
 
+/**
+ * 메시지 생성 LangGraph
+ *
+ * - 윤리 강령 검증 방식은 state 의 ethicsMode(없으면 aketer.agent.ethics-mode)로 실행마다 선택
+ *   - standard: 키워드 추천(LLM) → 키워드 검색 → 검증(LLM)
+ *   - fast: 메시지 제목/본문 직접 검색 → 검증(LLM), 반복당 LLM 호출 1회 절감
+ * - 검증 실패 시 이전 노드로 되돌아가는 루프마다 반복 예산(aketer.agent.loop-budget.*) 적용
+ *   - 루프 예산 소진: 발송 전략/초안/브랜드 톤은 현재 결과로 다음 단계 진행(best-effort), 윤리 강령은 fail 로 종료
+ *   - 전체 예산 소진: 어느 루프든 fail 로 종료 (생성 결과 폐기)
+ */
+@Slf4j
 @Component
 @Getter
 @RequiredArgsConstructor
 public class MessageGraph {
 
+    private static final String EXHAUSTED = "exhausted";
+    private static final String ABORT = "abort";
+
+    // 루프 없이 END 까지 실행되는 노드 수 / 윤리 강령 루프 1회당 노드 수 (standard 모드 기준)
+    private static final int BASE_STEPS = 11;
+    private static final int ETHICS_LOOP_STEPS = 5;
+
     private CompiledGraph<MessageState> graph;
 
     private final DetermineDeliveryStrategyNode determineDeliveryStrategyNode;
@@ -34,6 +56,26 @@ public class MessageGraph {
     private final RegenerationNode regenerationNode;
     private final GenerateEthicsPolicyKeywordNode generateEthicsPolicyKeywordNode;
     private final RetrieveEthicsPolicyNode retrieveEthicsPolicyNode;
+    private final RetrieveEthicsPolicyByMessageNode retrieveEthicsPolicyByMessageNode;
+    private final GraphLoopMetrics loopMetrics;
+
+    @Value("${aketer.agent.ethics-mode:standard}")
+    private String defaultEthicsMode;
+
+    @Value("${aketer.agent.loop-budget.delivery-strategy:3}")
+    private int deliveryStrategyBudget;
+
+    @Value("${aketer.agent.loop-budget.draft-message:3}")
+    private int draftMessageBudget;
+
+    @Value("${aketer.agent.loop-budget.brand-tone:3}")
+    private int brandToneBudget;
+
+    @Value("${aketer.agent.loop-budget.ethics:3}")
+    private int ethicsBudget;
+
+    @Value("${aketer.agent.loop-budget.total:8}")
+    private int totalBudget;
 
     @PostConstruct
     private void init() throws GraphStateException {
@@ -45,19 +87,25 @@ public class MessageGraph {
                 .addNode("determine_delivery_strategy", determineDeliveryStrategyNode)
 
                 // 발송 채널 적합성 검증 노드
-                .addNode("validate_delivery_strategy", validateDeliveryStrategyNode)
+                .addNode("validate_delivery_strategy",
+                        countingFailures(validateDeliveryStrategyNode, MessageState.DELIVERY_STRATEGY_ATTEMPTS))
 
                 // 마케팅 메시지 생성 노드
                 .addNode("draft_marketing_message", draftMarketingMessageNode)
 
                 // 메시지 초안 검증 노드
-                .addNode("validate_draft_message", validateDraftMessageNode)
+                .addNode("validate_draft_message",
+                        countingFailures(validateDraftMessageNode, MessageState.DRAFT_MESSAGE_ATTEMPTS))
 
                 // 브랜드 톤 적용 노드
                 .addNode("apply_brand_tone", applyBrandToneNode)
 
                 // 브랜드 톤 검증 노드
-                .addNode("validate_brand_tone", validateBrandToneNode)
+                .addNode("validate_brand_tone",
+                        countingFailures(validateBrandToneNode, MessageState.BRAND_TONE_ATTEMPTS))
+
+                // 윤리 강령 검증 방식 선택 노드 (상태 변경 없음, 분기 전용)
+                .addNode("select_ethics_mode", state -> CompletableFuture.completedFuture(Map.of()))
 
                 // 윤리 강령 검색 키워드 추천 노드
                 .addNode("generate_ethics_policy_keyword", generateEthicsPolicyKeywordNode)
@@ -65,8 +113,12 @@ public class MessageGraph {
                 // 윤리 강령 검색 노드
                 .addNode("retrieve_ethics_policy", retrieveEthicsPolicyNode)
 
+                // 윤리 강령 검색 노드 (fast: 메시지 제목/본문으로 직접 검색)
+                .addNode("retrieve_ethics_policy_by_message", retrieveEthicsPolicyByMessageNode)
+
                 // 메시지 윤리 강령 위반 검증 노드
-                .addNode("validate_ethics_policy", validateEthicsPolicyNode)
+                .addNode("validate_ethics_policy",
+                        countingFailures(validateEthicsPolicyNode, MessageState.ETHICS_ATTEMPTS))
 
                 // 윤리 강령 위반 시 메시지 수정 노드
                 .addNode("regeneration", regenerationNode)
@@ -81,31 +133,44 @@ public class MessageGraph {
                 .addEdge("determine_delivery_strategy", "validate_delivery_strategy")
 
                 // 발송 채널 적합성 검증 노드 (검증 결과: 실패) -> 최적 발송 채널 선정 노드
-                //                      (검증 결과: 성공) -> 마케팅 메시지 생성 노드
+                //                      (검증 결과: 성공 / 루프 예산 소진) -> 마케팅 메시지 생성 노드
                 .addConditionalEdges("validate_delivery_strategy",
-                        strategyRoute(),
+                        loopRoute(MessageState.DELIVERY_STRATEGY_ATTEMPTS, deliveryStrategyBudget),
                         Map.of("fail", "determine_delivery_strategy",
-                                "pass", "draft_marketing_message"))
+                                "pass", "draft_marketing_message",
+                                EXHAUSTED, "draft_marketing_message",
+                                ABORT, END))
 
                 // 마케팅 메시지 초안 생성 노드 -> 마케팅 초안 메시지 검증 노드
                 .addEdge("draft_marketing_message", "validate_draft_message")
 
                 // 메시지 초안 적합성 검증 노드 (검증 결과: 실패) -> 마케팅 메시지 생성 노드
-                //                        (검증 결과: 성공) -> 브랜드 톤 적용 노드
+                //                        (검증 결과: 성공 / 루프 예산 소진) -> 브랜드 톤 적용 노드
                 .addConditionalEdges("validate_draft_message",
-                        draftMessageRoute(),
+                        loopRoute(MessageState.DRAFT_MESSAGE_ATTEMPTS, draftMessageBudget),
                         Map.of("fail", "draft_marketing_message",
-                                "pass", "apply_brand_tone"))
+                                "pass", "apply_brand_tone",
+                                EXHAUSTED, "apply_brand_tone",
+                                ABORT, END))
 
                 // 브랜드 톤 적용 노드 -> 브랜드 톤 적합성 검증 노드
                 .addEdge("apply_brand_tone", "validate_brand_tone")
 
                 // 브랜드 톤 적합성 검증 노드  (검증 결과: 실패) -> 브랜드 톤 적용 노드
-                //                       (검증 결과: 성공) -> 윤리 강령 검색 키워드 추천 노드
+                //                       (검증 결과: 성공 / 루프 예산 소진) -> 윤리 강령 검증 방식 선택 노드
                 .addConditionalEdges("validate_brand_tone",
-                        brandToneMessageRoute(),
+                        loopRoute(MessageState.BRAND_TONE_ATTEMPTS, brandToneBudget),
                         Map.of("fail", "apply_brand_tone",
-                                "pass", "generate_ethics_policy_keyword"))
+                                "pass", "select_ethics_mode",
+                                EXHAUSTED, "select_ethics_mode",
+                                ABORT, END))
+
+                // 윤리 강령 검증 방식 선택 노드 (standard) -> 윤리 강령 검색 키워드 추천 노드
+                //                          (fast) -> 메시지 기반 윤리 강령 검색 노드
+                .addConditionalEdges("select_ethics_mode",
+                        ethicsModeRoute(),
+                        Map.of(MessageState.ETHICS_MODE_STANDARD, "generate_ethics_policy_keyword",
+                                MessageState.ETHICS_MODE_FAST, "retrieve_ethics_policy_by_message"))
 
                 // 윤리 강령 검색 키워드 추천 노드 -> 윤리 강령 검색 노드
                 .addEdge("generate_ethics_policy_keyword", "retrieve_ethics_policy")
@@ -113,50 +178,76 @@ public class MessageGraph {
                 // 윤리 강령 검색 노드 -> 메시지 윤리 강령 위반 검증 노드
                 .addEdge("retrieve_ethics_policy", "validate_ethics_policy")
 
+                // 메시지 기반 윤리 강령 검색 노드 -> 메시지 윤리 강령 위반 검증 노드
+                .addEdge("retrieve_ethics_policy_by_message", "validate_ethics_policy")
+
                 // 메시지 윤리 강령 위반 검증 노드 (검증 결과: 실패) -> 메시지 수정 노드
                 //                          (검증 결과: 성공) -> END
+                //                          (루프 예산 소진) -> END (validation=fail 유지, 발송 대상 제외)
                 .addConditionalEdges("validate_ethics_policy",
-                        ethicsRoute(),
+                        loopRoute(MessageState.ETHICS_ATTEMPTS, ethicsBudget),
                         Map.of("fail", "regeneration",
-                                "pass", END))
+                                "pass", END,
+                                EXHAUSTED, END,
+                                ABORT, END))
 
-                // 메시지 수정 노드 -> 윤리 강령 검색 키워드 추천 노드
-                .addEdge("regeneration", "generate_ethics_policy_keyword")
+                // 메시지 수정 노드 -> 윤리 강령 검증 방식 선택 노드
+                .addEdge("regeneration", "select_ethics_mode")
                 .compile();
-    }
 
-    // 발송 채널 적합성 검증 노드 분기 조건
-    private AsyncEdgeAction<MessageState> strategyRoute() {
-        return state -> {
-            String result = state.getValidation();
-
-            return CompletableFuture.completedFuture(result);
-        };
+        // 기본 스텝 + 전체 예산만큼의 루프(가장 긴 윤리 강령 루프 기준)를 허용하도록 최대 스텝 수 설정
+        graph.setMaxIterations(BASE_STEPS + totalBudget * ETHICS_LOOP_STEPS);
     }
 
-    // 메시지 초안 적합성 검증 노드 분기 조건
-    private AsyncEdgeAction<MessageState> draftMessageRoute() {
+    // 윤리 강령 검증 방식 분기 조건 (state 값이 없으면 기본 설정)
+    private AsyncEdgeAction<MessageState> ethicsModeRoute() {
         return state -> {
-            String result = state.getValidation();
-
-            return CompletableFuture.completedFuture(result);
+            String mode = state.getEthicsMode();
+            if (mode == null || mode.isBlank()) {
+                mode = defaultEthicsMode;
+            }
+
+            return CompletableFuture.completedFuture(
+                    MessageState.ETHICS_MODE_FAST.equalsIgnoreCase(mode)
+                            ? MessageState.ETHICS_MODE_FAST
+                            : MessageState.ETHICS_MODE_STANDARD);
         };
     }
 
-    // 브랜드톤 적합성 검증 노드 분기 조건
-    private AsyncEdgeAction<MessageState> brandToneMessageRoute() {
-        return state -> {
-            String result = state.getValidation();
+    // 검증 노드가 fail 을 반환하면 해당 루프와 전체 반복 횟수 증가
+    private AsyncNodeAction<MessageState> countingFailures(AsyncNodeAction<MessageState> validator, String attemptsKey) {
+        return state -> validator.apply(state).thenApply(result -> {
+            if (!"fail".equals(result.get(MessageState.VALIDATION))) {
+                return result;
+            }
 
-            return CompletableFuture.completedFuture(result);
-        };
+            loopMetrics.recordIteration(attemptsKey);
+
+            Map<String, Object> updates = new HashMap<>(result);
+            updates.put(attemptsKey, state.getAttempts(attemptsKey) + 1);
+            updates.put(MessageState.TOTAL_ATTEMPTS, state.getTotalAttempts() + 1);
+            return updates;
+        });
     }
 
-    // 메시지 윤리 강령 위반 검증 노드 분기 조건
-    private AsyncEdgeAction<MessageState> ethicsRoute() {
+    // 검증 노드 분기 조건 (fail 이어도 예산을 소진했으면 exhausted / abort)
+    private AsyncEdgeAction<MessageState> loopRoute(String attemptsKey, int budget) {
         return state -> {
             String result = state.getValidation();
 
+            if ("fail".equals(result)) {
+                if (state.getTotalAttempts() >= totalBudget) {
+                    loopMetrics.recordAborted(attemptsKey);
+                    log.warn("[MessageGraph] 전체 반복 예산 소진 ({}회) - {} 에서 종료", totalBudget, attemptsKey);
+                    return CompletableFuture.completedFuture(ABORT);
+                }
+                if (state.getAttempts(attemptsKey) >= budget) {
+                    loopMetrics.recordExhausted(attemptsKey);
+                    log.warn("[MessageGraph] {} 루프 예산 소진 ({}회)", attemptsKey, budget);
+                    return CompletableFuture.completedFuture(EXHAUSTED);
+                }
+            }
+
             return CompletableFuture.completedFuture(result);
         };
     }
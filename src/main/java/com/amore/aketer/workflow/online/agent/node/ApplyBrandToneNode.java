@@ -1,24 +1,37 @@
 package com.amore.aketer.workflow.online.agent.node;
 
 import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
 import com.amore.aketer.workflow.online.agent.state.ItemState;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
+import com.amore.aketer.workflow.online.agent.stream.StreamingJsonFieldParser;
+import com.amore.aketer.workflow.online.agent.stream.StructuredOutputStreamer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bsc.langgraph4j.action.AsyncNodeAction;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ApplyBrandToneNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "apply_brand_tone";
+    private static final Map<String, Integer> LENGTH_LIMITS = Map.of("title", 40, "body", 350);
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
+    private final StructuredOutputStreamer structuredOutputStreamer;
 
     /**
      * LLM 응답을 구조화하기 위한 레코드
@@ -33,6 +46,10 @@ public class ApplyBrandToneNode implements AsyncNodeAction<MessageState> {
 
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> process(state));
+    }
+
+    private Map<String, Object> process(MessageState state) {
         // ===== 입력 읽기 =====
         String purpose = nvl(state.getPurpose());
         ChannelType channel = state.getChannel();
@@ -46,7 +63,7 @@ public class ApplyBrandToneNode implements AsyncNodeAction<MessageState> {
         String draftBody = nvl(state.getMessageBody());
 
         // (권장) 브랜드 톤 검증 실패 피드백: 최근 것만 몇 개 사용
-        List<String> toneFailureReasons = safeLast(state.getBrandToneFailureReasons(), 5);
+        List<String> toneFailureReasons = MessageState.recent(state.getBrandToneFailureReasons());
 
         // ===== LLM 응답 구조화 =====
         BeanOutputConverter<ToneAppliedMessageResponse> converter =
@@ -115,20 +132,44 @@ public class ApplyBrandToneNode implements AsyncNodeAction<MessageState> {
                 draftTitle, draftBody
         );
 
-        ToneAppliedMessageResponse response = chatClient.prompt()
-                .user(u -> u.text(prompt).param("format", converter.getFormat()))
-                .call()
-                .entity(converter);
+        Consumer<ChatClient.AdvisorSpec> advisors = toneFailureReasons.isEmpty()
+                ? AgentAdvisorParams.cached(NODE_NAME, state)
+                : AgentAdvisorParams.uncached(NODE_NAME, state);
+        // 길이 초과 재생성 요청은 프롬프트 끝에 길이 피드백을 붙이고 캐시하지 않음
+        Function<String, ChatClient.ChatClientRequestSpec> request = lengthFeedback -> chatClient.prompt()
+                .advisors(lengthFeedback.isEmpty() ? advisors : AgentAdvisorParams.uncached(NODE_NAME, state))
+                .user(u -> u.text(prompt + lengthFeedback).param("format", converter.getFormat()));
+
+        ToneAppliedMessageResponse response = structuredOutputStreamer.isEnabled()
+                ? stream(request, converter)
+                : request.apply("").call().entity(converter);
 
         // ===== 후처리(안전장치) =====
         // - 모델이 간혹 길이를 넘길 수 있으니 최소한으로 클램핑
-        String finalTitle = clamp(nvl(response.title()).trim(), 40);
-        String finalBody = clamp(nvl(response.body()).trim(), 350);
+        String finalTitle = clamp(nvl(response.title()).trim(), LENGTH_LIMITS.get("title"));
+        String finalBody = clamp(nvl(response.body()).trim(), LENGTH_LIMITS.get("body"));
 
-        return CompletableFuture.completedFuture(Map.of(
+        return Map.of(
                 MessageState.MESSAGE_TITLE, finalTitle,
                 MessageState.MESSAGE_BODY, finalBody
-        ));
+        );
+    }
+
+    /**
+     * 스트리밍 생성: 제목/본문이 닫히는 즉시 종료 (toneSummary 는 기다리지 않음)
+     * 길이 제한을 넘으면 즉시 취소 후 1회 재생성, 그래도 넘으면 후처리에서 잘라냄
+     * (스트리밍 자체가 실패하면 일반 호출로 재시도)
+     */
+    private ToneAppliedMessageResponse stream(Function<String, ChatClient.ChatClientRequestSpec> request,
+                                              BeanOutputConverter<ToneAppliedMessageResponse> converter) {
+        try {
+            StreamingJsonFieldParser parser = structuredOutputStreamer.stream(
+                    NODE_NAME, request, LENGTH_LIMITS, Set.of("title", "body"));
+            return new ToneAppliedMessageResponse(parser.value("title"), parser.value("body"), parser.value("toneSummary"));
+        } catch (RuntimeException e) {
+            log.warn("[ApplyBrandToneNode] 스트리밍 생성 실패, 일반 호출로 재시도: {}", e.getMessage());
+            return request.apply("").call().entity(converter);
+        }
     }
 
     private static String nvl(String s) {
@@ -142,11 +183,4 @@ public class ApplyBrandToneNode implements AsyncNodeAction<MessageState> {
         if (maxLen <= 1) return s.substring(0, maxLen);
         return s.substring(0, maxLen - 1) + "…";
     }
-
-    private static List<String> safeLast(List<String> list, int n) {
-        if (list == null || list.isEmpty()) return List.of();
-        int size = list.size();
-        int from = Math.max(0, size - n);
-        return new ArrayList<>(list.subList(from, size));
-    }
 }
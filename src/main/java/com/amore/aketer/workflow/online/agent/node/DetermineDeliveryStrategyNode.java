@@ -1,6 +1,8 @@
 package com.amore.aketer.workflow.online.agent.node;
 
 import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
 import com.amore.aketer.workflow.online.agent.state.ItemState;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.amore.aketer.workflow.online.agent.state.PersonaState;
@@ -25,7 +27,10 @@ public class DetermineDeliveryStrategyNode implements AsyncNodeAction<MessageSta
 
     private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
 
+    private static final String NODE_NAME = "determine_delivery_strategy";
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
 
     /**
      * LLM으로부터 응답받은 발송 전략 결과를 구조화하기 위한 레코드입니다.
@@ -53,10 +58,14 @@ public class DetermineDeliveryStrategyNode implements AsyncNodeAction<MessageSta
      */
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> process(state));
+    }
+
+    private Map<String, Object> process(MessageState state) {
         //==LLM에 필요한 데이터 준비==//
         PersonaState persona = state.getPersona();
         ItemState item = state.getItem();
-        List<String> failureReasons = state.getDeliveryStrategyFailureReasons();
+        List<String> failureReasons = MessageState.recent(state.getDeliveryStrategyFailureReasons());
 
         // 서버 시간과 관계없이 한국 시간(KST) 기준으로 현재 시간 생성
         String now = LocalDateTime.now(KST_ZONE).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
@@ -109,15 +118,16 @@ public class DetermineDeliveryStrategyNode implements AsyncNodeAction<MessageSta
 
         //==LLM 사용==//
         DeliveryStrategyResponse response = chatClient.prompt()
+                .advisors(AgentAdvisorParams.uncached(NODE_NAME, state))
                 .user(u -> u.text(prompt).param("format", converter.getFormat()))
                 .call()
                 .entity(converter);
 
-        return CompletableFuture.completedFuture(Map.of(
+        return Map.of(
                 MessageState.CHANNEL, response.channel(),
                 MessageState.SEND_TIME, parseTime(response.sendTime()),
                 MessageState.STRATEGY_REASON, response.reason()
-        ));
+        );
     }
 
     /**
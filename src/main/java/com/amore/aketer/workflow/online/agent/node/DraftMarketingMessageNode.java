@@ -1,11 +1,16 @@
 package com.amore.aketer.workflow.online.agent.node;
 
 import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
 import com.amore.aketer.workflow.online.agent.state.ItemState;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.amore.aketer.workflow.online.agent.state.PersonaState;
+import com.amore.aketer.workflow.online.agent.stream.StreamingJsonFieldParser;
+import com.amore.aketer.workflow.online.agent.stream.StructuredOutputStreamer;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.bsc.langgraph4j.action.AsyncNodeAction;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.converter.BeanOutputConverter;
@@ -13,13 +18,22 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class DraftMarketingMessageNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "draft_marketing_message";
+    private static final Map<String, Integer> LENGTH_LIMITS = Map.of("title", 40, "body", 350);
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
+    private final StructuredOutputStreamer structuredOutputStreamer;
 
     /**
      * LLM으로부터 응답받은 마케팅 메시지 초안을 구조화하기 위한 레코드입니다.
@@ -49,12 +63,16 @@ public class DraftMarketingMessageNode implements AsyncNodeAction<MessageState>
      */
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> process(state));
+    }
+
+    private Map<String, Object> process(MessageState state) {
         //==LLM에 필요한 데이터 준비==//
         PersonaState persona = state.getPersona();
         ItemState product = state.getItem();
         ChannelType channel = state.getChannel();
         String sendTime = state.getSendTime() != null ? state.getSendTime().toString() : "미정";
-        List<String> failureReasons = state.getDraftMessageFailureReasons();
+        List<String> failureReasons = MessageState.recent(state.getDraftMessageFailureReasons());
 
         //==LLM 응답 구조화==/
         BeanOutputConverter<DraftMessageResponse> converter = new BeanOutputConverter<>(DraftMessageResponse.class);
@@ -102,15 +120,47 @@ public class DraftMarketingMessageNode implements AsyncNodeAction<MessageState>
                         """, persona.toString(), product.toString(), channel, sendTime, feedbackPrompt);
 
         //==LLM 사용==//
-        DraftMessageResponse response = chatClient.prompt()
-                .user(u -> u.text(prompt).param("format", converter.getFormat()))
-                .call()
-                .entity(converter);
+        Consumer<ChatClient.AdvisorSpec> advisors = failureReasons.isEmpty()
+                ? AgentAdvisorParams.cached(NODE_NAME, state)
+                : AgentAdvisorParams.uncached(NODE_NAME, state);
+        // 길이 초과 재생성 요청은 프롬프트 끝에 길이 피드백을 붙이고 캐시하지 않음
+        Function<String, ChatClient.ChatClientRequestSpec> request = lengthFeedback -> chatClient.prompt()
+                .advisors(lengthFeedback.isEmpty() ? advisors : AgentAdvisorParams.uncached(NODE_NAME, state))
+                .user(u -> u.text(prompt + lengthFeedback).param("format", converter.getFormat()));
 
-        return CompletableFuture.completedFuture(Map.of(
+        DraftMessageResponse response = structuredOutputStreamer.isEnabled()
+                ? stream(request, converter)
+                : request.apply("").call().entity(converter);
+
+        return Map.of(
                 MessageState.MESSAGE_TITLE, response.title(),
                 MessageState.MESSAGE_BODY, response.body(),
                 MessageState.DRAFT_REASON, response.rationale()
-        ));
+        );
+    }
+
+    /**
+     * 스트리밍 생성: 제목/본문이 길이 제한을 넘는 즉시 취소 후 1회 재생성, 그래도 넘으면 잘라냄
+     * (스트리밍 자체가 실패하면 일반 호출로 재시도)
+     */
+    private DraftMessageResponse stream(Function<String, ChatClient.ChatClientRequestSpec> request,
+                                        BeanOutputConverter<DraftMessageResponse> converter) {
+        try {
+            StreamingJsonFieldParser parser = structuredOutputStreamer.stream(
+                    NODE_NAME, request, LENGTH_LIMITS, Set.of("title", "body", "rationale"));
+            return new DraftMessageResponse(
+                    clamp(parser.value("title").trim(), LENGTH_LIMITS.get("title")),
+                    clamp(parser.value("body").trim(), LENGTH_LIMITS.get("body")),
+                    parser.value("rationale"));
+        } catch (RuntimeException e) {
+            log.warn("[DraftMarketingMessageNode] 스트리밍 생성 실패, 일반 호출로 재시도: {}", e.getMessage());
+            return request.apply("").call().entity(converter);
+        }
+    }
+
+    private static String clamp(String s, int maxLen) {
+        if (s.length() <= maxLen) return s;
+        // 끝에 말줄임표를 붙일 공간 확보
+        return s.substring(0, maxLen - 1) + "…";
     }
 }
@@ -1,5 +1,7 @@
 package com.amore.aketer.workflow.online.agent.node;
 
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +20,10 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class GenerateEthicsPolicyKeywordNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "generate_ethics_policy_keyword";
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
 
     /**
      * LLM으로부터 응답받은 윤리강령 키워드 결과를 구조화하기 위한 레코드
@@ -30,6 +35,10 @@ public class GenerateEthicsPolicyKeywordNode implements AsyncNodeAction<MessageS
 
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> process(state));
+    }
+
+    private Map<String, Object> process(MessageState state) {
         String messageTitle = state.getMessageTitle();
         String messageBody = state.getMessageBody();
 
@@ -61,12 +70,13 @@ public class GenerateEthicsPolicyKeywordNode implements AsyncNodeAction<MessageS
 
         // LLM 사용
         EthicsPolicyKeywordResponse response = chatClient.prompt()
+                .advisors(AgentAdvisorParams.cached(NODE_NAME, state))
                 .user(u -> u.text(prompt).param("format", converter.getFormat()))
                 .call()
                 .entity(converter);
 
-        return CompletableFuture.completedFuture(Map.of(
+        return Map.of(
                 MessageState.ETHICS_POLICY_KEYWORD, response.keyword()
-        ));
+        );
     }
 }
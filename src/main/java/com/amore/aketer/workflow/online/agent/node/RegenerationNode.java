@@ -1,5 +1,7 @@
 package com.amore.aketer.workflow.online.agent.node;
 
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
 import com.amore.aketer.workflow.online.agent.state.ItemState;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.amore.aketer.workflow.online.agent.state.PersonaState;
@@ -31,7 +33,10 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RegenerationNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "regeneration";
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
 
     /**
      * 재생성 응답 구조
@@ -45,7 +50,7 @@ public class RegenerationNode implements AsyncNodeAction<MessageState> {
 
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
-        return CompletableFuture.supplyAsync(() -> {
+        return agentExecutor.supplyAsync(() -> {
             long startTime = System.currentTimeMillis();
 
             log.info("[RegenerationNode] 메시지 재생성 시작 - title: {}",
@@ -53,7 +58,7 @@ public class RegenerationNode implements AsyncNodeAction<MessageState> {
 
             try {
                 // 1. 실패 사유 추출
-                List<String> failureReasons = state.getEthicsFailureReasons();
+                List<String> failureReasons = MessageState.recent(state.getEthicsFailureReasons());
                 if (failureReasons == null || failureReasons.isEmpty()) {
                     log.warn("[RegenerationNode] 실패 사유가 없음 - 재생성 불가");
                     return Map.of(); // 변경 없이 반환
@@ -81,6 +86,7 @@ public class RegenerationNode implements AsyncNodeAction<MessageState> {
 
                 // 5. Spring AI fluent API로 LLM 호출 및 자동 파싱
                 RegenerationResponse result = chatClient.prompt()
+                    .advisors(AgentAdvisorParams.uncached(NODE_NAME, state))
                     .user(u -> u
                         .text(promptTemplate)
                         .param("oldTitle", oldTitle != null ? oldTitle : "(제목 없음)")
@@ -0,0 +1,78 @@
+package com.amore.aketer.workflow.online.agent.node;
+
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import com.amore.aketer.workflow.online.retrieval.EthicsPolicySearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bsc.langgraph4j.action.AsyncNodeAction;
+import org.springframework.ai.document.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * RetrieveEthicsPolicyByMessageNode - 윤리 강령 fast-path 검색
+ *
+ * 키워드 추천 LLM 호출 없이 메시지 제목/본문 자체를 쿼리로 윤리 강령을 검색합니다.
+ * (ethicsMode=fast 일 때 generate_ethics_policy_keyword → retrieve_ethics_policy 대신 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetrieveEthicsPolicyByMessageNode implements AsyncNodeAction<MessageState> {
+
+    // 키워드별 검색(3건 x 키워드 수)과 비슷한 양의 강령을 가져오도록 단일 쿼리는 topK 를 늘림
+    private static final int TOP_K = 6;
+    // 메시지 전체와 강령 문장 간 유사도는 짧은 키워드보다 낮게 나오므로 임계값을 낮춤
+    private static final double SIMILARITY_THRESHOLD = 0.3;
+
+    private final EthicsPolicySearchService ethicsPolicySearchService;
+    private final AgentExecutor agentExecutor;
+
+    @Override
+    public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> {
+            String title = state.getMessageTitle();
+            String body = state.getMessageBody();
+            Map<String, Object> updates = new HashMap<>();
+
+            if (title == null || title.isBlank() || body == null || body.isBlank()) {
+                updates.put(MessageState.VALIDATION, "fail");
+                updates.put(MessageState.ETHICS_FAILURE_REASONS,
+                    List.of("[시스템 오류] 윤리 강령 검색 대상 메시지가 없습니다."));
+                log.warn("[RetrieveEthicsPolicyByMessageNode] 시스템 오류 - 제목/본문 부재");
+                return updates;
+            }
+
+            try {
+                List<Document> documents = ethicsPolicySearchService.search(
+                    List.of(title + "\n" + body), TOP_K, SIMILARITY_THRESHOLD);
+
+                String retrievedGuideLines = documents.stream()
+                    .map(doc -> String.format("[%s]\n%s",
+                        doc.getMetadata().getOrDefault("category", "윤리 강령"),
+                        doc.getText()))
+                    .collect(Collectors.joining("\n\n"));
+
+                if (retrievedGuideLines.isBlank()) {
+                    retrievedGuideLines = "검색된 윤리 강령이 없습니다. 일반적인 마케팅 윤리 강령을 적용하세요.";
+                }
+
+                updates.put(MessageState.ETHICS_POLICY_GUIDELINES, retrievedGuideLines);
+                log.info("[RetrieveEthicsPolicyByMessageNode] 윤리 강령 검색 완료 - {}개 발견", documents.size());
+
+            } catch (Exception e) {
+                log.error("[RetrieveEthicsPolicyByMessageNode] 시스템 오류 - 윤리 강령 검색 오류: {}", e.getMessage());
+                updates.put(MessageState.VALIDATION, "fail");
+                updates.put(MessageState.ETHICS_FAILURE_REASONS, List.of("[시스템] 윤리 강령 DB 조회 중 오류가 발생했습니다."));
+            }
+
+            return updates;
+        });
+    }
+}
@@ -1,12 +1,12 @@
 package com.amore.aketer.workflow.online.agent.node;
 
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
+import com.amore.aketer.workflow.online.retrieval.EthicsPolicySearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bsc.langgraph4j.action.AsyncNodeAction;
 import org.springframework.ai.document.Document;
-import org.springframework.ai.vectorstore.SearchRequest;
-import org.springframework.ai.vectorstore.VectorStore;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
@@ -21,11 +21,12 @@ public class RetrieveEthicsPolicyNode implements AsyncNodeAction<MessageState> {
     private static final int TOP_K = 3;
     private static final double SIMILARITY_THRESHOLD = 0.5;
 
-    private final VectorStore vectorStore;
+    private final EthicsPolicySearchService ethicsPolicySearchService;
+    private final AgentExecutor agentExecutor;
 
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
-        return CompletableFuture.supplyAsync(() -> {
+        return agentExecutor.supplyAsync(() -> {
             String ethicKeywords = state.getEthicsPolicyKeyword();
             Map<String, Object> updates = new HashMap<>();
 
@@ -38,28 +39,8 @@ public class RetrieveEthicsPolicyNode implements AsyncNodeAction<MessageState> {
             }
 
             try {
-                String[] keywords = ethicKeywords.split(",");
-
-                // 각 키워드별 검색
-                List<CompletableFuture<List<Document>>> futures = Arrays.stream(keywords)
-                    .map(String::trim)
-                    .filter(keyword -> !keyword.isBlank())
-                    .map(keyword -> CompletableFuture.supplyAsync(() -> {
-                        SearchRequest request = SearchRequest.builder()
-                            .query(keyword)
-                            .topK(TOP_K)
-                            .similarityThreshold(SIMILARITY_THRESHOLD)
-                            .build();
-                        return vectorStore.similaritySearch(request);
-                    }))
-                    .toList();
-
-                // 결과 병합
-                Set<Document> mergedDocuments = futures.stream()
-                    .flatMap(future -> future.join().stream())
-                    .collect(Collectors.toCollection(LinkedHashSet::new));
-
-                List<Document> documents = new ArrayList<>(mergedDocuments);
+                List<Document> documents = ethicsPolicySearchService.search(
+                    Arrays.asList(ethicKeywords.split(",")), TOP_K, SIMILARITY_THRESHOLD);
 
                 String retrievedGuideLines = documents.stream()
                     .map(doc -> String.format("[%s]\n%s",
@@ -1,6 +1,9 @@
 package com.amore.aketer.workflow.online.agent.node;
 
 import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
+import com.amore.aketer.workflow.online.agent.rule.MessageRuleValidator;
 import com.amore.aketer.workflow.online.agent.state.ItemState;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
@@ -20,7 +23,11 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ValidateBrandToneNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "validate_brand_tone";
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
+    private final MessageRuleValidator messageRuleValidator;
 
     /**
      * LLM이 반환할 구조화 검증 결과
@@ -39,6 +46,10 @@ public class ValidateBrandToneNode implements AsyncNodeAction<MessageState> {
 
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> process(state));
+    }
+
+    private Map<String, Object> process(MessageState state) {
 
         String brand = nvl(state.getBrand());
         String purpose = nvl(state.getPurpose());
@@ -51,20 +62,14 @@ public class ValidateBrandToneNode implements AsyncNodeAction<MessageState> {
         String title = nvl(state.getMessageTitle());
         String body = nvl(state.getMessageBody());
 
-        // ===== 1) 로컬 룰 기반 1차 검증(빠른 fail) =====
-        List<String> localViolations = new ArrayList<>();
-
-        if (title.isBlank()) localViolations.add("제목이 비어있음");
-        if (body.isBlank()) localViolations.add("본문이 비어있음");
-        if (!title.isBlank() && title.length() > 40) localViolations.add("제목 40자 초과");
-        if (!body.isBlank() && body.length() > 350) localViolations.add("본문 350자 초과");
-
+        // ===== 1) 룰 기반 1차 검증(빠른 fail): 형식 / 길이 / 금지 표현 =====
         // 브랜드 톤 검증인데, 메시지 형태가 깨져 있으면 톤 검증이 무의미하므로 바로 fail
-        if (!localViolations.isEmpty()) {
-            return CompletableFuture.completedFuture(Map.of(
+        List<String> ruleViolations = messageRuleValidator.checkBrandTone(state);
+        if (!ruleViolations.isEmpty()) {
+            return Map.of(
                     MessageState.VALIDATION, "fail",
-                    MessageState.BRAND_TONE_FAILURE_REASONS, localViolations
-            ));
+                    MessageState.BRAND_TONE_FAILURE_REASONS, ruleViolations
+            );
         }
 
         // ===== 2) LLM 기반 브랜드 톤 검증 =====
@@ -119,6 +124,7 @@ public class ValidateBrandToneNode implements AsyncNodeAction<MessageState> {
 
         try {
             BrandToneValidationResponse resp = chatClient.prompt()
+                    .advisors(AgentAdvisorParams.cached(NODE_NAME, state))
                     .user(u -> u.text(prompt).param("format", converter.getFormat()))
                     .call()
                     .entity(converter);
@@ -129,9 +135,9 @@ public class ValidateBrandToneNode implements AsyncNodeAction<MessageState> {
                     : normalizeViolations(resp.violations(), 5);
 
             if (valid) {
-                return CompletableFuture.completedFuture(Map.of(
+                return Map.of(
                         MessageState.VALIDATION, "pass"
-                ));
+                );
             }
 
             // LLM이 valid=false인데 violations가 비어있을 경우를 대비한 안전장치
@@ -139,15 +145,15 @@ public class ValidateBrandToneNode implements AsyncNodeAction<MessageState> {
                 violations = List.of("브랜드 톤 가이드라인 준수 여부가 불명확하여 재적용이 필요함");
             }
 
-            return CompletableFuture.completedFuture(Map.of(
+            return Map.of(
                     MessageState.VALIDATION, "fail",
                     MessageState.BRAND_TONE_FAILURE_REASONS, violations
-            ));
+            );
         } catch (Exception e) {
-            return CompletableFuture.completedFuture(Map.of(
+            return Map.of(
                     MessageState.VALIDATION, "fail",
                     MessageState.BRAND_TONE_FAILURE_REASONS, List.of("브랜드 톤 검증 중 시스템 오류가 발생하여 재시도가 필요함: " + safeMsg(e))
-            ));
+            );
         }
     }
 
@@ -1,6 +1,9 @@
 package com.amore.aketer.workflow.online.agent.node;
 
 import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
+import com.amore.aketer.workflow.online.agent.rule.MessageRuleValidator;
 import com.amore.aketer.workflow.online.agent.state.ItemState;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.amore.aketer.workflow.online.agent.state.PersonaState;
@@ -11,6 +14,7 @@ import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
@@ -19,7 +23,11 @@ import java.util.stream.Stream;
 @RequiredArgsConstructor
 public class ValidateDeliveryStrategyNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "validate_delivery_strategy";
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
+    private final MessageRuleValidator messageRuleValidator;
 
     /**
      * LLM으로부터 응답받은 발송 전략 검증 결과를 구조화하기 위한 레코드입니다.
@@ -47,6 +55,19 @@ public class ValidateDeliveryStrategyNode implements AsyncNodeAction<MessageStat
      */
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> process(state));
+    }
+
+    private Map<String, Object> process(MessageState state) {
+        //==룰 기반 사전 검증 (채널/발송 시간대 위반은 LLM 호출 없이 fail)==//
+        List<String> ruleViolations = messageRuleValidator.checkDeliveryStrategy(state);
+        if (!ruleViolations.isEmpty()) {
+            return Map.of(
+                    MessageState.VALIDATION, "fail",
+                    MessageState.DELIVERY_STRATEGY_FAILURE_REASONS, ruleViolations
+            );
+        }
+
         //==LLM에 필요한 데이터 준비==//
         PersonaState persona = state.getPersona();
         ItemState product = state.getItem();
@@ -85,13 +106,14 @@ public class ValidateDeliveryStrategyNode implements AsyncNodeAction<MessageStat
 
         //==LLM 사용==//
         ValidationResponse response = chatClient.prompt()
+                .advisors(AgentAdvisorParams.cached(NODE_NAME, state))
                 .user(u -> u.text(prompt).param("format", converter.getFormat()))
                 .call()
                 .entity(converter);
 
-        return CompletableFuture.completedFuture(Map.of(
+        return Map.of(
                 MessageState.VALIDATION, response.validation().toLowerCase(),
                 MessageState.DELIVERY_STRATEGY_FAILURE_REASONS, Stream.ofNullable(response.failureReason()).toList()
-        ));
+        );
     }
 }
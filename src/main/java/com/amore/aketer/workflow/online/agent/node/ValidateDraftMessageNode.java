@@ -1,5 +1,8 @@
 package com.amore.aketer.workflow.online.agent.node;
 
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
+import com.amore.aketer.workflow.online.agent.rule.MessageRuleValidator;
 import com.amore.aketer.workflow.online.agent.state.ItemState;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.amore.aketer.workflow.online.agent.state.PersonaState;
@@ -20,7 +23,11 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ValidateDraftMessageNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "validate_draft_message";
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
+    private final MessageRuleValidator messageRuleValidator;
 
     /**
      * LLM 구조화 검증 응답
@@ -39,6 +46,10 @@ public class ValidateDraftMessageNode implements AsyncNodeAction<MessageState> {
 
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
+        return agentExecutor.supplyAsync(() -> process(state));
+    }
+
+    private Map<String, Object> process(MessageState state) {
 
         PersonaState persona = state.getPersona();
         ItemState item = state.getItem();
@@ -49,30 +60,13 @@ public class ValidateDraftMessageNode implements AsyncNodeAction<MessageState> {
         String title = nvl(state.getMessageTitle());
         String body = nvl(state.getMessageBody());
 
-        // ===== 1) 로컬 룰 기반 1차 검증 =====
-        List<String> local = new ArrayList<>();
-
-        // 필수값
-        if (title.isBlank()) local.add("제목이 비어있음");
-        if (body.isBlank()) local.add("본문이 비어있음");
-
-        // 길이 (요구사항: 제목<=40, 본문<=350)
-        if (!title.isBlank() && title.length() > 40) local.add("제목 40자 초과");
-        if (!body.isBlank() && body.length() > 350) local.add("본문 350자 초과");
-
-        // 최소 의미 체크(너무 짧은 경우)
-        if (!body.isBlank() && body.length() < 20) local.add("본문이 너무 짧아 메시지로서 정보가 부족함");
-
-        // 채널별 기본 가이드
-        if ("SMS".equalsIgnoreCase(channel) && body.length() > 300) {
-            local.add("SMS 채널 대비 본문이 너무 길어 가독성이 떨어짐");
-        }
-
-        if (!local.isEmpty()) {
-            return CompletableFuture.completedFuture(Map.of(
+        // ===== 1) 룰 기반 1차 검증 (결정적 위반은 LLM 호출 없이 fail) =====
+        List<String> ruleViolations = messageRuleValidator.checkDraftMessage(state);
+        if (!ruleViolations.isEmpty()) {
+            return Map.of(
                     MessageState.VALIDATION, "fail",
-                    MessageState.DRAFT_MESSAGE_FAILURE_REASONS, local
-            ));
+                    MessageState.DRAFT_MESSAGE_FAILURE_REASONS, ruleViolations
+            );
         }
 
         // ===== 2) LLM 기반 품질/적합성 검증 =====
@@ -117,6 +111,7 @@ public class ValidateDraftMessageNode implements AsyncNodeAction<MessageState> {
 
         try {
             DraftMessageValidationResponse resp = chatClient.prompt()
+                    .advisors(AgentAdvisorParams.cached(NODE_NAME, state))
                     .user(u -> u.text(prompt).param("format", converter.getFormat()))
                     .call()
                     .entity(converter);
@@ -127,25 +122,25 @@ public class ValidateDraftMessageNode implements AsyncNodeAction<MessageState> {
                     : normalize(resp.violations(), 5);
 
             if (valid) {
-                return CompletableFuture.completedFuture(Map.of(
+                return Map.of(
                         MessageState.VALIDATION, "pass"
-                ));
+                );
             }
 
             if (violations.isEmpty()) {
                 violations = List.of("초안 메시지가 목적/채널/상품 적합성 기준을 충족하지 못함 (수정 필요)");
             }
 
-            return CompletableFuture.completedFuture(Map.of(
+            return Map.of(
                     MessageState.VALIDATION, "fail",
                     MessageState.DRAFT_MESSAGE_FAILURE_REASONS, violations
-            ));
+            );
         } catch (Exception e) {
-            return CompletableFuture.completedFuture(Map.of(
+            return Map.of(
                     MessageState.VALIDATION, "fail",
                     MessageState.DRAFT_MESSAGE_FAILURE_REASONS,
                     List.of("초안 검증 중 시스템 오류가 발생하여 재생성이 필요함: " + safeMsg(e))
-            ));
+            );
         }
     }
 
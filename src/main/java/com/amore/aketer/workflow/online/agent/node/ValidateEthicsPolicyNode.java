@@ -1,5 +1,8 @@
 package com.amore.aketer.workflow.online.agent.node;
 
+import com.amore.aketer.workflow.online.agent.advisor.AgentAdvisorParams;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
+import com.amore.aketer.workflow.online.agent.rule.MessageRuleValidator;
 import com.amore.aketer.workflow.online.agent.state.MessageState;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.RequiredArgsConstructor;
@@ -29,7 +32,11 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class ValidateEthicsPolicyNode implements AsyncNodeAction<MessageState> {
 
+    private static final String NODE_NAME = "validate_ethics_policy";
+
     private final ChatClient chatClient;
+    private final AgentExecutor agentExecutor;
+    private final MessageRuleValidator messageRuleValidator;
 
     /**
      * LLM 검증 응답 구조
@@ -51,23 +58,20 @@ public class ValidateEthicsPolicyNode implements AsyncNodeAction<MessageState> {
 
     @Override
     public CompletableFuture<Map<String, Object>> apply(MessageState state) {
-        return CompletableFuture.supplyAsync(() -> {
+        return agentExecutor.supplyAsync(() -> {
             long startTime = System.currentTimeMillis();
 
             log.info("[ValidateEthicsPolicyNode] 윤리 강령 검증 시작 - title: {}",
                 state.getMessageTitle());
 
             try {
-                // 기본 null 체크
-                String title = state.getMessageTitle();
-                String body = state.getMessageBody();
-
-                if (title == null || body == null) {
+                // 룰 기반 사전 검증 (null 제목/본문, 금지 표현은 LLM 호출 없이 fail)
+                List<String> ruleViolations = messageRuleValidator.checkEthics(state);
+                if (!ruleViolations.isEmpty()) {
                     Map<String, Object> updates = new HashMap<>();
                     updates.put(MessageState.VALIDATION, "fail");
-                    updates.put(MessageState.ETHICS_FAILURE_REASONS,
-                        List.of("[시스템 오류] 제목 또는 본문이 없음"));
-                    log.warn("[ValidateEthicsPolicyNode] 시스템 오류 - null 제목/본문");
+                    updates.put(MessageState.ETHICS_FAILURE_REASONS, ruleViolations);
+                    log.warn("[ValidateEthicsPolicyNode] 룰 검증 실패 - {}", ruleViolations);
                     return updates;
                 }
 
@@ -121,6 +125,7 @@ public class ValidateEthicsPolicyNode implements AsyncNodeAction<MessageState> {
 
             // Spring AI fluent API로 LLM 호출 및 자동 파싱
             ValidationResult result = chatClient.prompt()
+                .advisors(AgentAdvisorParams.cached(NODE_NAME, state))
                 .user(u -> u
                     .text(promptTemplate)
                     .param("messageTitle", state.getMessageTitle())
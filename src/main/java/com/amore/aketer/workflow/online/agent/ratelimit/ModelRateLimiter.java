@@ -0,0 +1,188 @@
+package com.amore.aketer.workflow.online.agent.ratelimit;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 모델 단위 요청/토큰 제한기
+ *
+ * - RPM / TPM 토큰 버킷을 모두 만족해야 호출 허용
+ * - 대기 요청은 공정성 키(페르소나)별 큐에 넣고 키 사이를 라운드 로빈으로 허용 → 상품이 많은 페르소나가 한도를 독점하지 않음
+ * - 429/5xx 발생 시 지수 백오프로 전체 호출을 일시 정지하고 보충 속도를 줄임 (AIMD)
+ *   - 성공할 때마다 보충 속도를 조금씩 회복해 한도 근처에서 수렴
+ */
+public class ModelRateLimiter {
+
+    private static final double MIN_RATE_FACTOR = 0.2;
+    private static final double DECREASE_RATIO = 0.7;
+    private static final double INCREASE_STEP = 0.02;
+
+    private final String model;
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<String> fairKeys = new ArrayDeque<>();
+    private final Map<String, Deque<Waiter>> waiters = new HashMap<>();
+
+    private double rateFactor = 1.0;
+    private long pausedUntil = 0;
+    private int consecutiveThrottles = 0;
+
+    private final AtomicLong admittedCount = new AtomicLong(0);
+    private final AtomicLong throttledCount = new AtomicLong(0);
+    private final AtomicLong totalWaitMillis = new AtomicLong(0);
+
+    public ModelRateLimiter(String model, double requestsPerMinute, double tokensPerMinute, double burstSeconds,
+                            long initialBackoffMillis, long maxBackoffMillis) {
+        this.model = model;
+        this.requestBucket = new TokenBucket(requestsPerMinute, burstSeconds);
+        this.tokenBucket = new TokenBucket(tokensPerMinute, burstSeconds);
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+    }
+
+    /**
+     * 요청 1건 + estimatedTokens 를 소비할 수 있을 때까지 대기
+     */
+    public void acquire(String fairKey, int estimatedTokens) throws InterruptedException {
+        long startedAt = System.currentTimeMillis();
+
+        lock.lock();
+        try {
+            Waiter waiter = new Waiter(lock.newCondition());
+            Deque<Waiter> queue = waiters.computeIfAbsent(fairKey, k -> new ArrayDeque<>());
+            if (queue.isEmpty()) {
+                fairKeys.addLast(fairKey);
+            }
+            queue.addLast(waiter);
+
+            try {
+                while (true) {
+                    if (head() != waiter) {
+                        waiter.condition.await();
+                        continue;
+                    }
+
+                    long now = System.currentTimeMillis();
+                    long wait = Math.max(
+                            pausedUntil - now,
+                            Math.max(requestBucket.waitMillis(1, rateFactor, now),
+                                    tokenBucket.waitMillis(estimatedTokens, rateFactor, now)));
+
+                    if (wait <= 0) {
+                        requestBucket.consume(1);
+                        tokenBucket.consume(estimatedTokens);
+                        admittedCount.incrementAndGet();
+                        totalWaitMillis.addAndGet(now - startedAt);
+                        return;
+                    }
+                    waiter.condition.await(wait, TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                // 허용되었거나 인터럽트된 경우 모두 큐에서 빠지고 다음 차례를 깨움
+                remove(fairKey, waiter);
+                signalHead();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 호출 성공: 실제 토큰 사용량 반영 + 보충 속도 회복
+     */
+    public void onSuccess(int estimatedTokens, Integer actualTokens) {
+        lock.lock();
+        try {
+            if (actualTokens != null && actualTokens > 0) {
+                tokenBucket.adjust(actualTokens - estimatedTokens);
+            }
+            consecutiveThrottles = 0;
+            rateFactor = Math.min(1.0, rateFactor + INCREASE_STEP);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 429/5xx 응답: 전체 호출 일시 정지 + 보충 속도 감소
+     *
+     * @return 적용된 정지 시간(ms)
+     */
+    public long onThrottled() {
+        lock.lock();
+        try {
+            throttledCount.incrementAndGet();
+            consecutiveThrottles++;
+            rateFactor = Math.max(MIN_RATE_FACTOR, rateFactor * DECREASE_RATIO);
+
+            long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(consecutiveThrottles - 1, 16));
+            // 동시에 실패한 요청들이 같은 시각에 재시도하지 않도록 지터 적용
+            backoff += ThreadLocalRandom.current().nextLong(Math.max(1, backoff / 4));
+            pausedUntil = Math.max(pausedUntil, System.currentTimeMillis() + backoff);
+
+            signalHead();
+            return backoff;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Map<String, Object> getCurrentStats() {
+        lock.lock();
+        try {
+            long admitted = admittedCount.get();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("model", model);
+            stats.put("admitted", admitted);
+            stats.put("throttled", throttledCount.get());
+            stats.put("waiting", waiters.values().stream().mapToInt(Deque::size).sum());
+            stats.put("rateFactor", rateFactor);
+            stats.put("availableTokens", (long) tokenBucket.getAvailable());
+            stats.put("avgWaitMillis", admitted == 0 ? 0 : totalWaitMillis.get() / admitted);
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Waiter head() {
+        String key = fairKeys.peekFirst();
+        return key == null ? null : waiters.get(key).peekFirst();
+    }
+
+    private void remove(String fairKey, Waiter waiter) {
+        Deque<Waiter> queue = waiters.get(fairKey);
+        boolean wasHead = queue.peekFirst() == waiter && fairKey.equals(fairKeys.peekFirst());
+        queue.remove(waiter);
+
+        if (queue.isEmpty()) {
+            waiters.remove(fairKey);
+            fairKeys.remove(fairKey);
+        } else if (wasHead) {
+            // 허용된 키는 맨 뒤로 보내 다른 페르소나에게 차례를 넘김
+            fairKeys.remove(fairKey);
+            fairKeys.addLast(fairKey);
+        }
+    }
+
+    private void signalHead() {
+        Waiter next = head();
+        if (next != null) {
+            next.condition.signal();
+        }
+    }
+
+    private record Waiter(Condition condition) {}
+}
@@ -0,0 +1,62 @@
+package com.amore.aketer.workflow.online.agent.ratelimit;
+
+/**
+ * 분당 한도 기반 토큰 버킷 (스레드 안전하지 않음, {@link ModelRateLimiter} 의 락 안에서만 사용)
+ *
+ * - 분당 한도를 ms 단위로 균등하게 보충하고, 최대 burst-seconds 만큼만 적립
+ * - 실제 사용량이 추정치보다 크면 {@link #adjust(double)} 로 잔량을 음수(부채)까지 차감
+ */
+class TokenBucket {
+
+    private final double refillPerMillis;
+    private final double capacity;
+
+    private double available;
+    private long lastRefillAt;
+
+    TokenBucket(double perMinute, double burstSeconds) {
+        this.refillPerMillis = perMinute / 60_000d;
+        this.capacity = Math.max(1d, perMinute * burstSeconds / 60d);
+        this.available = capacity;
+        this.lastRefillAt = System.currentTimeMillis();
+    }
+
+    /**
+     * amount 를 소비하려면 기다려야 하는 시간(ms). 0 이면 즉시 소비 가능
+     *
+     * @param rateFactor 적응형 감속 계수 (0 ~ 1], 보충 속도에 곱해짐
+     */
+    long waitMillis(double amount, double rateFactor, long now) {
+        refill(rateFactor, now);
+
+        // 버킷 용량보다 큰 요청은 버킷이 가득 찼을 때 부채로 허용
+        double required = Math.min(amount, capacity);
+        if (available >= required) {
+            return 0;
+        }
+        return (long) Math.ceil((required - available) / (refillPerMillis * rateFactor));
+    }
+
+    void consume(double amount) {
+        available -= amount;
+    }
+
+    /**
+     * 추정치와 실제 사용량의 차이 반영 (delta > 0 이면 추가 차감)
+     */
+    void adjust(double delta) {
+        available = Math.min(capacity, available - delta);
+    }
+
+    double getAvailable() {
+        return available;
+    }
+
+    private void refill(double rateFactor, long now) {
+        long elapsed = now - lastRefillAt;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * refillPerMillis * rateFactor);
+            lastRefillAt = now;
+        }
+    }
+}
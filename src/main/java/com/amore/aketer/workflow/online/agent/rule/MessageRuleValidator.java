@@ -0,0 +1,212 @@
+package com.amore.aketer.workflow.online.agent.rule;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 검증 노드 공통 룰 기반 사전 검증
+ *
+ * - 금지 표현 사전 / 발송 가능 시간(KST) / 채널별 길이 제한 / CTA 패턴 등 결정적으로 판단 가능한 항목만 검사
+ * - 위반 사항이 있으면 검증 노드는 LLM 호출 없이 바로 fail, 없으면 맥락 판단이 필요한 부분만 LLM 으로 넘김
+ * - 각 check 메서드는 위반 사항 목록을 반환 (비어 있으면 룰 통과)
+ */
+@Slf4j
+@Component
+public class MessageRuleValidator {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Value("${aketer.agent.rules.banned-expressions:최고,100%,치료,완치,무조건,부작용 없,기적}")
+    private List<String> bannedExpressions;
+
+    // 금지 표현을 포함하지만 허용하는 복합어 (예: '최고' 금지 vs '최고급' 허용)
+    @Value("${aketer.agent.rules.allowed-expressions:최고급}")
+    private List<String> allowedExpressions;
+
+    @Value("${aketer.agent.rules.send-window.start:08:00}")
+    private String sendWindowStartValue;
+
+    @Value("${aketer.agent.rules.send-window.end:21:00}")
+    private String sendWindowEndValue;
+
+    @Value("${aketer.agent.rules.title-max-length:40}")
+    private int titleMaxLength;
+
+    @Value("${aketer.agent.rules.body-max-length:350}")
+    private int bodyMaxLength;
+
+    @Value("${aketer.agent.rules.sms-body-max-length:300}")
+    private int smsBodyMaxLength;
+
+    @Value("${aketer.agent.rules.body-min-length:20}")
+    private int bodyMinLength;
+
+    @Value("${aketer.agent.rules.cta-pattern:확인|구매|바로가기|보기|신청|받기|방문|만나보|클릭|참여}")
+    private String ctaRegex;
+
+    private LocalTime sendWindowStart;
+    private LocalTime sendWindowEnd;
+    private Pattern ctaPattern;
+
+    private final Map<String, LongAdder> rejections = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    private void init() {
+        sendWindowStart = LocalTime.parse(sendWindowStartValue);
+        sendWindowEnd = LocalTime.parse(sendWindowEndValue);
+        ctaPattern = Pattern.compile(ctaRegex);
+    }
+
+    /**
+     * 발송 전략: 채널 / 발송 시간 필수, 발송 가능 시간대(KST) 내 미래 시각
+     */
+    public List<String> checkDeliveryStrategy(MessageState state) {
+        List<String> violations = new ArrayList<>();
+        LocalDateTime sendTime = state.getSendTime();
+
+        if (state.getChannel() == null) {
+            violations.add("발송 채널이 지정되지 않음");
+        }
+
+        if (sendTime == null || LocalDateTime.MIN.equals(sendTime)) {
+            violations.add("발송 시간이 지정되지 않음");
+        } else {
+            LocalTime time = sendTime.toLocalTime();
+            if (time.isBefore(sendWindowStart) || time.isAfter(sendWindowEnd)) {
+                violations.add("발송 시간 %s 이 허용 시간대(%s ~ %s, KST)를 벗어남".formatted(time, sendWindowStart, sendWindowEnd));
+            }
+            if (sendTime.isBefore(LocalDateTime.now(KST_ZONE))) {
+                violations.add("발송 시간 %s 이 현재 시각(KST)보다 이전임".formatted(sendTime));
+            }
+        }
+
+        return record("validate_delivery_strategy", violations);
+    }
+
+    /**
+     * 메시지 초안: 필수값 / 길이 / 채널별 길이 / CTA 포함 여부
+     */
+    public List<String> checkDraftMessage(MessageState state) {
+        String title = nvl(state.getMessageTitle());
+        String body = nvl(state.getMessageBody());
+
+        List<String> violations = checkFormat(title, body, state.getChannel());
+
+        // 최소 의미 체크(너무 짧은 경우)
+        if (!body.isBlank() && body.length() < bodyMinLength) {
+            violations.add("본문이 너무 짧아 메시지로서 정보가 부족함");
+        }
+
+        if (!body.isBlank() && !ctaPattern.matcher(title + " " + body).find()) {
+            violations.add("CTA(다음 행동 유도) 문구가 없음 (예: '지금 확인', '구매하러 가기', '자세히 보기')");
+        }
+
+        return record("validate_draft_message", violations);
+    }
+
+    /**
+     * 브랜드 톤: 필수값 / 길이 / 금지 표현
+     */
+    public List<String> checkBrandTone(MessageState state) {
+        String title = nvl(state.getMessageTitle());
+        String body = nvl(state.getMessageBody());
+
+        List<String> violations = checkFormat(title, body, state.getChannel());
+        violations.addAll(checkBannedExpressions(title, body));
+
+        return record("validate_brand_tone", violations);
+    }
+
+    /**
+     * 윤리 강령: 필수값 / 금지 표현
+     */
+    public List<String> checkEthics(MessageState state) {
+        String title = state.getMessageTitle();
+        String body = state.getMessageBody();
+
+        List<String> violations = new ArrayList<>();
+        if (title == null || body == null) {
+            violations.add("[시스템 오류] 제목 또는 본문이 없음");
+        } else {
+            violations.addAll(checkBannedExpressions(title, body));
+        }
+
+        return record("validate_ethics_policy", violations);
+    }
+
+    /**
+     * 검증 노드별 룰 단계 fail 건수 (= 생략된 LLM 호출 수)
+     */
+    public Map<String, Long> getCurrentStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        rejections.forEach((node, count) -> stats.put(node, count.sum()));
+        return stats;
+    }
+
+    private List<String> checkFormat(String title, String body, ChannelType channel) {
+        List<String> violations = new ArrayList<>();
+
+        // 필수값
+        if (title.isBlank()) violations.add("제목이 비어있음");
+        if (body.isBlank()) violations.add("본문이 비어있음");
+
+        // 길이
+        if (title.length() > titleMaxLength) violations.add("제목 %d자 초과".formatted(titleMaxLength));
+        if (body.length() > bodyMaxLength) violations.add("본문 %d자 초과".formatted(bodyMaxLength));
+
+        // 채널별 기본 가이드
+        if (channel == ChannelType.SMS && body.length() > smsBodyMaxLength) {
+            violations.add("SMS 채널 대비 본문이 너무 길어 가독성이 떨어짐 (%d자 이하)".formatted(smsBodyMaxLength));
+        }
+
+        return violations;
+    }
+
+    private List<String> checkBannedExpressions(String title, String body) {
+        // 띄어쓰기 변형('100 %', '부작용 없음')도 잡기 위해 공백 제거 후 비교
+        // 한국어는 조사가 붙어('최고의', '최고예요') 단어 경계로 자를 수 없으므로, 허용 복합어를 먼저 지운 뒤 부분 일치로 검사
+        String text = (title + " " + body).replaceAll("\\s+", "");
+        for (String allowed : allowedExpressions) {
+            String normalized = allowed.replaceAll("\\s+", "");
+            if (!normalized.isEmpty()) {
+                text = text.replace(normalized, " ");
+            }
+        }
+
+        List<String> violations = new ArrayList<>();
+        for (String expression : bannedExpressions) {
+            String normalized = expression.replaceAll("\\s+", "");
+            if (!normalized.isEmpty() && text.contains(normalized)) {
+                violations.add("금지 표현 사용: '%s'".formatted(expression.trim()));
+            }
+        }
+        return violations;
+    }
+
+    private List<String> record(String nodeName, List<String> violations) {
+        if (!violations.isEmpty()) {
+            rejections.computeIfAbsent(nodeName, k -> new LongAdder()).increment();
+            log.info("[MessageRuleValidator] {} 룰 검증 실패 - LLM 호출 생략: {}", nodeName, violations);
+        }
+        return violations;
+    }
+
+    private static String nvl(String s) {
+        return s == null ? "" : s;
+    }
+}
@@ -33,6 +33,11 @@ public class MessageState extends AgentState {
     public static final String ETHICS_POLICY_KEYWORD = "ethicsPolicyKeyword";
 	public static final String ETHICS_POLICY_GUIDELINES = "ethicsPolicyGuidelines";
 
+    // 윤리 강령 검증 방식 (standard: 키워드 추천 → 검색 → 검증, fast: 메시지 직접 검색 → 검증)
+    public static final String ETHICS_MODE = "ethicsMode";
+    public static final String ETHICS_MODE_STANDARD = "standard";
+    public static final String ETHICS_MODE_FAST = "fast";
+
     // validation
     public static final String VALIDATION = "validation";
 
@@ -42,6 +47,16 @@ public class MessageState extends AgentState {
     public static final String BRAND_TONE_FAILURE_REASONS = "brandToneFailureReasons";
     public static final String ETHICS_FAILURE_REASONS = "ethicsFailureReasons";
 
+    // Loop budget (검증 실패로 되돌아간 횟수)
+    public static final String DELIVERY_STRATEGY_ATTEMPTS = "deliveryStrategyAttempts";
+    public static final String DRAFT_MESSAGE_ATTEMPTS = "draftMessageAttempts";
+    public static final String BRAND_TONE_ATTEMPTS = "brandToneAttempts";
+    public static final String ETHICS_ATTEMPTS = "ethicsAttempts";
+    public static final String TOTAL_ATTEMPTS = "totalAttempts";
+
+    // 프롬프트에 포함하는 최근 실패 사유 개수 (루프가 길어져도 프롬프트 크기 고정)
+    public static final int FEEDBACK_REASON_LIMIT = 5;
+
 	// Schema Definition
 	public static final Map<String, Channel<?>> SCHEMA = Map.ofEntries(
 		Map.entry(PERSONA, Channels.base(PersonaState::new)),
@@ -57,11 +72,17 @@ public class MessageState extends AgentState {
 		Map.entry(BRAND_GUIDELINES, Channels.base(() -> "")),
         Map.entry(ETHICS_POLICY_KEYWORD, Channels.base(() -> "")),
 		Map.entry(ETHICS_POLICY_GUIDELINES, Channels.base(() -> "")),
+        Map.entry(ETHICS_MODE, Channels.base(() -> "")),
         Map.entry(VALIDATION, Channels.base(() -> "")),
         Map.entry(DELIVERY_STRATEGY_FAILURE_REASONS, Channels.appender(ArrayList::new)),
         Map.entry(DRAFT_MESSAGE_FAILURE_REASONS, Channels.appender(ArrayList::new)),
         Map.entry(BRAND_TONE_FAILURE_REASONS, Channels.appender(ArrayList::new)),
-        Map.entry(ETHICS_FAILURE_REASONS, Channels.appender(ArrayList::new))
+        Map.entry(ETHICS_FAILURE_REASONS, Channels.appender(ArrayList::new)),
+        Map.entry(DELIVERY_STRATEGY_ATTEMPTS, Channels.base(() -> 0)),
+        Map.entry(DRAFT_MESSAGE_ATTEMPTS, Channels.base(() -> 0)),
+        Map.entry(BRAND_TONE_ATTEMPTS, Channels.base(() -> 0)),
+        Map.entry(ETHICS_ATTEMPTS, Channels.base(() -> 0)),
+        Map.entry(TOTAL_ATTEMPTS, Channels.base(() -> 0))
     );
 
 	public MessageState(Map<String, Object> initData) {
@@ -124,6 +145,10 @@ public class MessageState extends AgentState {
         return this.<String>value(ETHICS_POLICY_GUIDELINES).orElse(null);
     }
 
+    public String getEthicsMode() {
+        return this.<String>value(ETHICS_MODE).orElse(null);
+    }
+
     // Getters - 검증 성공 여부
     public String getValidation() {
         return this.<String>value(VALIDATION).orElse(null);
@@ -145,4 +170,23 @@ public class MessageState extends AgentState {
     public List<String> getEthicsFailureReasons() {
         return this.<List<String>>value(ETHICS_FAILURE_REASONS).orElse(new ArrayList<>());
     }
+
+    // Getters - Loop budget
+    public int getAttempts(String attemptsKey) {
+        return this.<Integer>value(attemptsKey).orElse(0);
+    }
+
+    public int getTotalAttempts() {
+        return getAttempts(TOTAL_ATTEMPTS);
+    }
+
+    /**
+     * 프롬프트 피드백용 최근 실패 사유 (최대 {@link #FEEDBACK_REASON_LIMIT}개)
+     */
+    public static List<String> recent(List<String> reasons) {
+        if (reasons == null || reasons.size() <= FEEDBACK_REASON_LIMIT) {
+            return reasons == null ? List.of() : reasons;
+        }
+        return reasons.subList(reasons.size() - FEEDBACK_REASON_LIMIT, reasons.size());
+    }
 }
@@ -19,6 +19,7 @@ public class PersonaState implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    private Long id;
     private String name;
     private String profileText;
 
@@ -63,6 +64,7 @@ public class PersonaState implements Serializable {
                 .collect(Collectors.toList());
 
         return PersonaState.builder()
+                .id(persona.getId())
                 .name(persona.getName())
                 .profileText(persona.getProfileText())
                 .personaRepresentativeStates(repStates)
@@ -0,0 +1,207 @@
+package com.amore.aketer.workflow.online.agent.stream;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LLM 스트리밍 응답용 증분 JSON 필드 파서
+ *
+ * - 토큰 조각을 {@link #feed(String)} 로 받을 때마다 최상위 객체의 문자열 필드 값을 이어 붙임
+ * - 필드별 현재 길이 / 완료 여부를 스트림 도중에 확인할 수 있어 길이 초과 시 조기 취소, 필드 완성 시 조기 종료에 사용
+ * - 첫 '{' 이전 텍스트(```json 코드 블록 등)는 무시, 문자열이 아닌 값(숫자/배열/객체)은 건너뜀
+ * - 이스케이프(\n, \", \\uXXXX 등)는 디코딩한 값 기준으로 길이 계산
+ * - 스레드 안전하지 않음 (스트림 1개당 인스턴스 1개)
+ */
+public class StreamingJsonFieldParser {
+
+    private enum Mode {
+        BEFORE_OBJECT, EXPECT_KEY, IN_KEY, AFTER_KEY, EXPECT_VALUE, IN_STRING_VALUE, IN_OTHER_VALUE, DONE
+    }
+
+    private final Map<String, StringBuilder> values = new LinkedHashMap<>();
+    private final Map<String, Boolean> completed = new LinkedHashMap<>();
+    private final StringBuilder raw = new StringBuilder();
+
+    private Mode mode = Mode.BEFORE_OBJECT;
+    private final StringBuilder key = new StringBuilder();
+    private String currentField;
+
+    // 문자열 이스케이프 처리
+    private boolean escaped;
+    private StringBuilder unicode;
+
+    // 문자열이 아닌 값 건너뛰기용
+    private int depth;
+    private boolean inNestedString;
+    private boolean nestedEscaped;
+
+    public void feed(String chunk) {
+        if (chunk == null) {
+            return;
+        }
+        raw.append(chunk);
+        for (int i = 0; i < chunk.length() && mode != Mode.DONE; i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    /**
+     * 필드의 현재까지 값 (아직 시작되지 않았으면 null)
+     */
+    public String value(String field) {
+        StringBuilder value = values.get(field);
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * 필드의 현재까지 길이 (디코딩 기준)
+     */
+    public int length(String field) {
+        StringBuilder value = values.get(field);
+        return value == null ? 0 : value.length();
+    }
+
+    /**
+     * 필드 값의 닫는 따옴표까지 수신했는지 여부
+     */
+    public boolean isComplete(String field) {
+        return Boolean.TRUE.equals(completed.get(field));
+    }
+
+    /**
+     * 최상위 객체의 닫는 괄호까지 수신했는지 여부
+     */
+    public boolean isDone() {
+        return mode == Mode.DONE;
+    }
+
+    /**
+     * 지금까지 수신한 원본 텍스트
+     */
+    public String raw() {
+        return raw.toString();
+    }
+
+    private void accept(char c) {
+        switch (mode) {
+            case BEFORE_OBJECT -> {
+                if (c == '{') mode = Mode.EXPECT_KEY;
+            }
+            case EXPECT_KEY -> {
+                if (c == '"') {
+                    key.setLength(0);
+                    mode = Mode.IN_KEY;
+                } else if (c == '}') {
+                    mode = Mode.DONE;
+                }
+            }
+            case IN_KEY -> {
+                if (escaped) {
+                    key.append(c);
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    mode = Mode.AFTER_KEY;
+                } else {
+                    key.append(c);
+                }
+            }
+            case AFTER_KEY -> {
+                if (c == ':') mode = Mode.EXPECT_VALUE;
+            }
+            case EXPECT_VALUE -> {
+                if (Character.isWhitespace(c)) {
+                    return;
+                }
+                if (c == '"') {
+                    currentField = key.toString();
+                    values.put(currentField, new StringBuilder());
+                    completed.put(currentField, false);
+                    mode = Mode.IN_STRING_VALUE;
+                } else {
+                    depth = 0;
+                    inNestedString = false;
+                    mode = Mode.IN_OTHER_VALUE;
+                    skipOther(c);
+                }
+            }
+            case IN_STRING_VALUE -> readString(c);
+            case IN_OTHER_VALUE -> skipOther(c);
+            case DONE -> {
+            }
+        }
+    }
+
+    private void readString(char c) {
+        StringBuilder value = values.get(currentField);
+
+        if (unicode != null) {
+            unicode.append(c);
+            if (unicode.length() == 4) {
+                try {
+                    value.append((char) Integer.parseInt(unicode.toString(), 16));
+                } catch (NumberFormatException e) {
+                    value.append("\\u").append(unicode);
+                }
+                unicode = null;
+            }
+            return;
+        }
+
+        if (escaped) {
+            escaped = false;
+            switch (c) {
+                case 'n' -> value.append('\n');
+                case 't' -> value.append('\t');
+                case 'r' -> value.append('\r');
+                case 'b' -> value.append('\b');
+                case 'f' -> value.append('\f');
+                case 'u' -> unicode = new StringBuilder(4);
+                default -> value.append(c); // ", \, /
+            }
+            return;
+        }
+
+        if (c == '\\') {
+            escaped = true;
+        } else if (c == '"') {
+            completed.put(currentField, true);
+            currentField = null;
+            mode = Mode.EXPECT_KEY;
+        } else {
+            value.append(c);
+        }
+    }
+
+    private void skipOther(char c) {
+        if (inNestedString) {
+            if (nestedEscaped) {
+                nestedEscaped = false;
+            } else if (c == '\\') {
+                nestedEscaped = true;
+            } else if (c == '"') {
+                inNestedString = false;
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> inNestedString = true;
+            case '{', '[' -> depth++;
+            case '}', ']' -> {
+                if (depth == 0) {
+                    // 값 없이 최상위 객체가 닫힘
+                    mode = Mode.DONE;
+                } else {
+                    depth--;
+                }
+            }
+            case ',' -> {
+                if (depth == 0) mode = Mode.EXPECT_KEY;
+            }
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.amore.aketer.workflow.online.agent.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 생성 노드용 구조화 출력 스트리밍
+ *
+ * - ChatClient stream() 으로 응답을 받으면서 {@link StreamingJsonFieldParser} 로 필드를 증분 파싱
+ * - 필드가 길이 제한을 넘는 순간 생성을 취소하고, 길이 피드백을 담아 1회 재생성 (재생성은 취소 없이 끝까지 받고 노드에서 잘라냄)
+ * - 필요한 필드가 모두 닫히면 나머지 출력(부가 설명 등)을 기다리지 않고 종료해 다음 검증 노드로 바로 넘김
+ * - 노드별 스트리밍 / 길이 초과 취소 / 조기 완료 / 재생성 건수 집계
+ */
+@Slf4j
+@Component
+public class StructuredOutputStreamer {
+
+    @Value("${aketer.agent.streaming.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aketer.agent.streaming.timeout:60000}")
+    private long timeoutMillis;
+
+    private final Map<String, LongAdder> streamed = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> overflowCancelled = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> earlyCompleted = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> regenerated = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param nodeName       집계용 노드 이름
+     * @param requestFactory 길이 피드백(첫 시도는 빈 문자열)을 받아 요청을 만드는 함수
+     * @param limits         필드별 최대 길이 (초과 시 취소 후 재생성)
+     * @param requiredFields 모두 닫히면 스트림을 조기 종료할 필드
+     * @return 파싱된 필드 (재생성 결과도 길이 초과일 수 있으므로 호출 측에서 잘라서 사용)
+     */
+    public StreamingJsonFieldParser stream(String nodeName,
+                                           Function<String, ChatClient.ChatClientRequestSpec> requestFactory,
+                                           Map<String, Integer> limits,
+                                           Set<String> requiredFields) {
+        AtomicReference<String> overflowField = new AtomicReference<>();
+        StreamingJsonFieldParser parser = consume(nodeName, requestFactory.apply(""), limits, requiredFields, overflowField);
+
+        if (overflowField.get() == null) {
+            return parser;
+        }
+
+        String field = overflowField.get();
+        counter(overflowCancelled, nodeName).increment();
+        counter(regenerated, nodeName).increment();
+        log.info("[StructuredOutputStreamer] {} - {} 필드 {}자 초과로 생성 취소 후 재생성", nodeName, field, limits.get(field));
+
+        String feedback = """
+                [길이 제한 (반드시 지킬 것)]
+                - 직전 생성에서 %s 가 %d자를 넘었어. %s
+                """.formatted(field, limits.get(field), limits.entrySet().stream()
+                .map(limit -> "%s는 %d자 이내".formatted(limit.getKey(), limit.getValue()))
+                .collect(Collectors.joining(", ", "", "로 다시 작성해.")));
+
+        // 재생성은 길이 초과로 취소하지 않음 (한 번 더 넘으면 노드에서 잘라냄)
+        return consume(nodeName, requestFactory.apply(feedback), Map.of(), requiredFields, overflowField);
+    }
+
+    /**
+     * 노드별 스트리밍 현황
+     */
+    public Map<String, Map<String, Long>> getCurrentStats() {
+        Map<String, Map<String, Long>> stats = new LinkedHashMap<>();
+        streamed.keySet().stream().sorted().forEach(node -> stats.put(node, Map.of(
+                "streamed", counter(streamed, node).sum(),
+                "overflowCancelled", counter(overflowCancelled, node).sum(),
+                "earlyCompleted", counter(earlyCompleted, node).sum(),
+                "regenerated", counter(regenerated, node).sum()
+        )));
+        return stats;
+    }
+
+    private StreamingJsonFieldParser consume(String nodeName,
+                                             ChatClient.ChatClientRequestSpec request,
+                                             Map<String, Integer> limits,
+                                             Set<String> requiredFields,
+                                             AtomicReference<String> overflowField) {
+        StreamingJsonFieldParser parser = new StreamingJsonFieldParser();
+        AtomicReference<Boolean> early = new AtomicReference<>(false);
+        overflowField.set(null);
+        counter(streamed, nodeName).increment();
+
+        // takeUntil 조건이 참이 되면 upstream 을 취소 → OpenAI 스트리밍 연결도 끊겨 이후 토큰 생성 중단
+        request.stream()
+                .content()
+                .takeUntil(chunk -> {
+                    parser.feed(chunk);
+                    for (Map.Entry<String, Integer> limit : limits.entrySet()) {
+                        if (parser.length(limit.getKey()) > limit.getValue()) {
+                            overflowField.set(limit.getKey());
+                            return true;
+                        }
+                    }
+                    if (!requiredFields.isEmpty() && requiredFields.stream().allMatch(parser::isComplete)) {
+                        early.set(!parser.isDone());
+                        return true;
+                    }
+                    return false;
+                })
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .blockLast();
+
+        if (overflowField.get() != null) {
+            return parser;
+        }
+        if (early.get()) {
+            counter(earlyCompleted, nodeName).increment();
+        }
+
+        for (String field : requiredFields) {
+            if (parser.value(field) == null) {
+                throw new IllegalStateException("스트리밍 응답에 %s 필드가 없습니다: %s".formatted(field, parser.raw()));
+            }
+        }
+        return parser;
+    }
+
+    private static LongAdder counter(Map<String, LongAdder> counters, String node) {
+        return counters.computeIfAbsent(node, k -> new LongAdder());
+    }
+}
@@ -0,0 +1,347 @@
+package com.amore.aketer.workflow.online.audience;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품별 구매 유저 비트맵 인덱스 ("이미 구매한 상품은 추천하지 않음" 필터)
+ *
+ * - 상품 id → 구매 유저 id RoaringBitmap (orders 기준, SQL 폴백의 orders anti-join 과 같은 "이미 구매" 정의)
+ * - 시작 시 스냅샷(있으면) 또는 전체 적재, 이후 ordered_at 워터마크 이후 주문만 주기적으로 반영
+ * - 매일 전체 재적재 후 스냅샷 저장 (늦게 들어온 과거 주문 반영)
+ * - 오디언스 필터는 멤버 비트맵 AND-NOT 구매자 비트맵 연산으로 처리, 인덱스가 준비되지 않았으면 호출 측에서 SQL 로 폴백
+ * - 주기 반영 사이에 들어온 주문은 다음 반영까지 보이지 않음 (refresh-interval 만큼 지연)
+ * - 유저 id 는 부호 없는 32비트 범위여야 함 (넘으면 인덱스를 사용하지 않음)
+ * - 적재/반영은 테이블 전체를 스트리밍하므로 공용 @Scheduled 스레드가 아닌 전용 스레드 1개에서 순서대로 실행
+ */
+@Slf4j
+@Component
+public class PurchaseIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x50494458; // "PIDX"
+    private static final int SNAPSHOT_VERSION = 2; // v2: user_item_interaction 제외
+    private static final long MAX_USER_ID = 0xFFFF_FFFFL;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    @Value("${aketer.purchase-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${aketer.purchase-index.snapshot-path:./cache/purchase-index.bin}")
+    private String snapshotPath;
+
+    @Value("${aketer.purchase-index.refresh-interval:60000}")
+    private long refreshIntervalMillis;
+
+    private ScheduledExecutorService indexExecutor;
+
+    private final Map<Long, RoaringBitmap> purchasers = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile boolean ready;
+    private volatile LocalDateTime watermark;
+    private volatile String source = "none";
+    private volatile Instant loadedAt;
+
+    private final AtomicLong incrementalOrders = new AtomicLong(0);
+    private final AtomicLong filterCount = new AtomicLong(0);
+
+    public PurchaseIndex(DataSource dataSource) {
+        // MySQL 은 fetchSize = Integer.MIN_VALUE 일 때 결과를 한 행씩 스트리밍 (전체 주문을 메모리에 올리지 않음)
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    @PostConstruct
+    private void init() {
+        if (!enabled) {
+            return;
+        }
+        loadFromSnapshot();
+
+        // 스냅샷이 없으면 첫 refresh 가 전체 적재 (애플리케이션 시작을 막지 않음)
+        indexExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("purchase-index").factory());
+        indexExecutor.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    private void shutdown() {
+        if (indexExecutor != null) {
+            indexExecutor.shutdownNow();
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 우선순위 순 상품 목록에 대해 유저마다 아직 구매하지 않은 첫 상품을 배정
+     *
+     * @param members 대상 유저 id 비트맵 (변경하지 않음)
+     * @param itemIds 우선순위 순 상품 id
+     * @return itemIds 와 같은 순서의 배정 유저 비트맵 (어느 상품에도 배정되지 않은 유저는 제외)
+     */
+    public List<RoaringBitmap> assignFirstUnpurchased(RoaringBitmap members, List<Long> itemIds) {
+        List<RoaringBitmap> assignments = new ArrayList<>(itemIds.size());
+        RoaringBitmap remaining = members.clone();
+
+        lock.readLock().lock();
+        try {
+            for (Long itemId : itemIds) {
+                RoaringBitmap bought = purchasers.get(itemId);
+                RoaringBitmap assigned = bought == null ? remaining.clone() : RoaringBitmap.andNot(remaining, bought);
+                assignments.add(assigned);
+                remaining.andNot(assigned);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        filterCount.incrementAndGet();
+        return assignments;
+    }
+
+    /**
+     * 대상 유저 중 상품을 구매하지 않은 유저 (세그먼트 조회용)
+     */
+    public RoaringBitmap withoutPurchasers(RoaringBitmap users, long itemId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap bought = purchasers.get(itemId);
+            return bought == null ? users.clone() : RoaringBitmap.andNot(users, bought);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static boolean supports(long userId) {
+        return userId >= 0 && userId <= MAX_USER_ID;
+    }
+
+    public static RoaringBitmap toBitmap(List<Long> userIds) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Long userId : userIds) {
+            bitmap.add((int) checkedUserId(userId));
+        }
+        return bitmap;
+    }
+
+    public static List<Long> toUserIds(RoaringBitmap bitmap) {
+        List<Long> userIds = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int value) -> userIds.add(Integer.toUnsignedLong(value)));
+        return userIds;
+    }
+
+    /**
+     * 워터마크 이후 주문 반영 (준비되지 않았으면 전체 적재)
+     */
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        if (!ready) {
+            rebuild();
+            return;
+        }
+
+        try {
+            // 같은 시각 주문을 놓치지 않도록 워터마크 시각을 포함해서 조회 (비트맵 추가는 멱등)
+            Map<Long, RoaringBitmap> delta = new HashMap<>();
+            LocalDateTime[] latest = {watermark};
+            long[] rows = {0};
+            streamingJdbcTemplate.query("""
+                    select user_id, item_id, ordered_at
+                    from orders
+                    where ordered_at >= ?
+                    """, rs -> {
+                delta.computeIfAbsent(rs.getLong(2), k -> new RoaringBitmap()).add((int) checkedUserId(rs.getLong(1)));
+                LocalDateTime orderedAt = rs.getTimestamp(3).toLocalDateTime();
+                if (orderedAt.isAfter(latest[0])) {
+                    latest[0] = orderedAt;
+                }
+                rows[0]++;
+            }, Timestamp.valueOf(watermark));
+
+            lock.writeLock().lock();
+            try {
+                delta.forEach((itemId, users) -> purchasers.merge(itemId, users, (current, added) -> {
+                    current.or(added);
+                    return current;
+                }));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            watermark = latest[0];
+            incrementalOrders.addAndGet(rows[0]);
+        } catch (Exception e) {
+            log.warn("[PurchaseIndex] 주문 증분 반영 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 매일 전체 재적재 (refresh 와 같은 전용 스레드에서 실행)
+     */
+    @Scheduled(cron = "${aketer.purchase-index.rebuild-cron:0 0 5 * * *}")
+    public void scheduleRebuild() {
+        if (indexExecutor != null) {
+            indexExecutor.execute(this::rebuild);
+        }
+    }
+
+    /**
+     * 전체 재적재 후 교체 + 스냅샷 저장
+     */
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Map<Long, RoaringBitmap> loaded = new HashMap<>();
+            LocalDateTime[] latest = {LocalDateTime.of(1970, 1, 1, 0, 0)};
+
+            streamingJdbcTemplate.query("select user_id, item_id, ordered_at from orders", rs -> {
+                loaded.computeIfAbsent(rs.getLong(2), k -> new RoaringBitmap()).add((int) checkedUserId(rs.getLong(1)));
+                LocalDateTime orderedAt = rs.getTimestamp(3).toLocalDateTime();
+                if (orderedAt.isAfter(latest[0])) {
+                    latest[0] = orderedAt;
+                }
+            });
+            loaded.values().forEach(RoaringBitmap::runOptimize);
+
+            swap(loaded, latest[0], "db");
+            writeSnapshot();
+        } catch (Exception e) {
+            log.warn("[PurchaseIndex] 전체 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getCurrentStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.readLock().lock();
+        try {
+            stats.put("items", purchasers.size());
+            stats.put("bytes", purchasers.values().stream().mapToLong(RoaringBitmap::getLongSizeInBytes).sum());
+        } finally {
+            lock.readLock().unlock();
+        }
+        stats.put("ready", ready);
+        stats.put("source", source);
+        stats.put("loadedAt", loadedAt);
+        stats.put("watermark", watermark);
+        stats.put("incrementalOrders", incrementalOrders.get());
+        stats.put("filters", filterCount.get());
+        return stats;
+    }
+
+    private void swap(Map<Long, RoaringBitmap> loaded, LocalDateTime newWatermark, String source) {
+        lock.writeLock().lock();
+        try {
+            purchasers.clear();
+            purchasers.putAll(loaded);
+            watermark = newWatermark;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        this.source = source;
+        this.loadedAt = Instant.now();
+        this.ready = true;
+        log.info("[PurchaseIndex] 적재 완료 - source: {}, 상품 {}개, 워터마크 {}", source, loaded.size(), newWatermark);
+    }
+
+    private void loadFromSnapshot() {
+        Path file = Paths.get(snapshotPath);
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                log.warn("[PurchaseIndex] 스냅샷 형식 불일치, 무시합니다: {}", file);
+                return;
+            }
+            LocalDateTime snapshotWatermark = new Timestamp(in.readLong()).toLocalDateTime();
+            int itemCount = in.readInt();
+            Map<Long, RoaringBitmap> loaded = new HashMap<>(itemCount * 2);
+            for (int i = 0; i < itemCount; i++) {
+                long itemId = in.readLong();
+                RoaringBitmap users = new RoaringBitmap();
+                users.deserialize(in);
+                loaded.put(itemId, users);
+            }
+            swap(loaded, snapshotWatermark, "snapshot");
+        } catch (IOException e) {
+            log.warn("[PurchaseIndex] 스냅샷 로드 실패: {}", file, e);
+        }
+    }
+
+    private void writeSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+
+        Path file = Paths.get(snapshotPath);
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "purchase-index", ".tmp");
+
+            lock.readLock().lock();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(Timestamp.valueOf(watermark).getTime());
+                out.writeInt(purchasers.size());
+                for (Map.Entry<Long, RoaringBitmap> entry : purchasers.entrySet()) {
+                    out.writeLong(entry.getKey());
+                    entry.getValue().serialize(out);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[PurchaseIndex] 스냅샷 저장 실패: {}", file, e);
+        }
+    }
+
+    private static long checkedUserId(long userId) {
+        if (!supports(userId)) {
+            throw new IllegalStateException("비트맵 인덱스 범위를 넘는 유저 id: " + userId);
+        }
+        return userId;
+    }
+}
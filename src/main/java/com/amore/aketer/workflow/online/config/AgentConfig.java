@@ -1,15 +1,33 @@
 package com.amore.aketer.workflow.online.config;
 
+import com.amore.aketer.workflow.online.agent.advisor.LlmResponseCacheAdvisor;
+import com.amore.aketer.workflow.online.agent.advisor.RateLimitAdvisor;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.openai.OpenAiChatModel;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.RetryTemplate;
 
 @Configuration
 public class AgentConfig {
 
+    /**
+     * 429/5xx 재시도는 RateLimitAdvisor 가 백오프와 함께 처리하므로 채팅 모델만 Spring AI 내부 재시도를 끔
+     * (임베딩 모델은 spring.ai.retry 기본 재시도 유지, rate-limit 을 끄면 채팅도 기본 재시도 사용)
+     */
     @Bean
-    public ChatClient chatClient(ChatModel chatModel) {
-        return ChatClient.builder(chatModel).build();
+    public ChatClient chatClient(OpenAiChatModel openAiChatModel,
+                                 LlmResponseCacheAdvisor llmResponseCacheAdvisor,
+                                 RateLimitAdvisor rateLimitAdvisor,
+                                 @Value("${aketer.agent.rate-limit.enabled:true}") boolean rateLimitEnabled) {
+        ChatModel chatModel = rateLimitEnabled
+                ? openAiChatModel.mutate().retryTemplate(RetryTemplate.builder().maxAttempts(1).build()).build()
+                : openAiChatModel;
+
+        return ChatClient.builder(chatModel)
+                .defaultAdvisors(llmResponseCacheAdvisor, rateLimitAdvisor)
+                .build();
     }
 }
@@ -0,0 +1,33 @@
+package com.amore.aketer.workflow.online.config;
+
+import com.amore.aketer.workflow.online.retrieval.CachingEmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class EmbeddingCacheConfig {
+
+    /**
+     * 자동 구성된 EmbeddingModel(OpenAI)을 {@link CachingEmbeddingModel} 로 감쌉니다.
+     * VectorStore(Chroma) 역시 같은 EmbeddingModel 을 주입받으므로 검색 쿼리 임베딩도 캐시를 거칩니다.
+     */
+    @Bean
+    public static BeanPostProcessor cachingEmbeddingModelPostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("aketer.agent.embedding-cache.enabled", Boolean.class, true);
+        int maxEntries = environment.getProperty("aketer.agent.embedding-cache.max-entries", Integer.class, 10_000);
+        long ttlMillis = environment.getProperty("aketer.agent.embedding-cache.ttl", Long.class, 86_400_000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (enabled && bean instanceof EmbeddingModel embeddingModel && !(bean instanceof CachingEmbeddingModel)) {
+                    return new CachingEmbeddingModel(embeddingModel, maxEntries, ttlMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
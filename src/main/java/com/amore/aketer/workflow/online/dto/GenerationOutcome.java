@@ -0,0 +1,15 @@
+package com.amore.aketer.workflow.online.dto;
+
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import lombok.*;
+
+/**
+ * 메시지 생성 결과 (상품 1건에 대한 LangGraph 실행 결과)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class GenerationOutcome {
+    private Long itemId;
+    private MessageState state;
+}
@@ -0,0 +1,17 @@
+package com.amore.aketer.workflow.online.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 메시지 생성 대상 (페르소나 × 추천 상품 1건)
+ */
+@Getter
+@AllArgsConstructor
+@Builder
+public class GenerationTarget {
+    private Long personaId;
+    private Long itemId;
+    private Map<String, Object> initData; // LangGraph 초기 입력
+}
@@ -0,0 +1,99 @@
+package com.amore.aketer.workflow.online.retrieval;
+
+import com.amore.aketer.common.cache.TtlLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 텍스트 임베딩 결과를 캐시하는 EmbeddingModel 래퍼
+ *
+ * - 동일 텍스트(예: 반복되는 윤리 강령 키워드)는 임베딩 API 를 다시 호출하지 않음
+ * - {@link #embed(List)} 호출 시 캐시 miss 텍스트만 모아 한 번의 배치 요청으로 임베딩
+ * - VectorStore(Chroma) 의 검색용 쿼리 임베딩도 이 래퍼를 거치므로, 미리 배치 임베딩해두면 검색 시 캐시 hit
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final TtlLruCache<String, float[]> cache;
+
+    private final AtomicLong hitCount = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+
+    public CachingEmbeddingModel(EmbeddingModel delegate, int maxEntries, long ttlMillis) {
+        this.delegate = delegate;
+        this.cache = new TtlLruCache<>(maxEntries, ttlMillis);
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        return delegate.call(request);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return delegate.embed(document);
+    }
+
+    @Override
+    public float[] embed(String text) {
+        return embed(List.of(text)).get(0);
+    }
+
+    @Override
+    public List<float[]> embed(List<String> texts) {
+        Map<String, float[]> resolved = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+
+        for (String text : texts) {
+            float[] cached = cache.get(text);
+            if (cached != null) {
+                resolved.put(text, cached);
+            } else {
+                misses.add(text);
+            }
+        }
+
+        hitCount.addAndGet(texts.size() - misses.size());
+        missCount.addAndGet(misses.size());
+
+        if (!misses.isEmpty()) {
+            // 캐시 miss 텍스트는 한 번의 배치 요청으로 임베딩
+            List<String> missTexts = new ArrayList<>(misses);
+            List<float[]> embeddings = delegate.embed(missTexts);
+            for (int i = 0; i < missTexts.size(); i++) {
+                cache.put(missTexts.get(i), embeddings.get(i));
+                resolved.put(missTexts.get(i), embeddings.get(i));
+            }
+            log.debug("[CachingEmbeddingModel] 배치 임베딩 - 요청 {}건 중 miss {}건", texts.size(), missTexts.size());
+        }
+
+        return texts.stream()
+                .map(resolved::get)
+                .toList();
+    }
+
+    @Override
+    public int dimensions() {
+        return delegate.dimensions();
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        return Map.of(
+                "hit", hitCount.get(),
+                "miss", missCount.get(),
+                "size", (long) cache.size()
+        );
+    }
+}
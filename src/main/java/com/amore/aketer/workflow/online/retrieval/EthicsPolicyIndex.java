@@ -0,0 +1,228 @@
+package com.amore.aketer.workflow.online.retrieval;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.ai.vectorstore.VectorStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 윤리 강령 컬렉션 로컬 인덱스
+ *
+ * - mode=local: Chroma 컬렉션 전체를 {@link InMemoryVectorStore} 로 적재해 프로세스 내에서 검색
+ *   - 시작 시 + 주기적으로 Chroma 에서 재적재, 실패 시 스냅샷 파일 사용
+ *   - 인덱스가 없거나 로컬 검색 실패 시 Chroma 로 폴백
+ * - mode=chroma: 기존처럼 매 검색마다 Chroma 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EthicsPolicyIndex {
+
+    // Chroma 전체 조회용 쿼리 (similarityThresholdAll + 큰 topK 로 컬렉션 전체를 가져옴)
+    private static final String LOAD_QUERY = "윤리 강령";
+
+    private final VectorStore vectorStore;
+    private final EmbeddingModel embeddingModel;
+    private final ObjectMapper objectMapper;
+
+    @Value("${aketer.ethics-index.mode:local}")
+    private String mode;
+
+    @Value("${aketer.ethics-index.max-documents:10000}")
+    private int maxDocuments;
+
+    @Value("${aketer.ethics-index.snapshot-path:./cache/ethics-index.json}")
+    private String snapshotPath;
+
+    @Value("${spring.ai.openai.embedding.options.model:}")
+    private String embeddingModelName;
+
+    private volatile InMemoryVectorStore localStore;
+    private volatile String source = "none";
+    private volatile Instant loadedAt;
+
+    private final AtomicLong version = new AtomicLong(0);
+    private final AtomicLong localSearchCount = new AtomicLong(0);
+    private final AtomicLong fallbackCount = new AtomicLong(0);
+
+    public List<Document> similaritySearch(SearchRequest request) {
+        InMemoryVectorStore store = localStore;
+        if (!isLocalMode() || store == null || request.getFilterExpression() != null) {
+            return vectorStore.similaritySearch(request);
+        }
+
+        try {
+            List<Document> documents = store.similaritySearch(request);
+            localSearchCount.incrementAndGet();
+            return documents;
+        } catch (Exception e) {
+            fallbackCount.incrementAndGet();
+            log.warn("[EthicsPolicyIndex] 로컬 검색 실패, Chroma 로 폴백: {}", e.getMessage());
+            return vectorStore.similaritySearch(request);
+        }
+    }
+
+    /**
+     * 로컬 인덱스로 검색 가능한 상태인지 여부
+     */
+    public boolean isLocalReady() {
+        return isLocalMode() && localStore != null;
+    }
+
+    /**
+     * 인덱스가 교체될 때마다 증가 (검색 결과 캐시 키에 포함)
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Chroma 에서 인덱스 재적재 (시작 직후 + 주기 실행)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${aketer.ethics-index.refresh-interval:3600000}")
+    public void refresh() {
+        if (!isLocalMode()) {
+            return;
+        }
+
+        try {
+            Corpus corpus = loadFromChroma();
+            InMemoryVectorStore store = new InMemoryVectorStore(embeddingModel, corpus.documents(), corpus.embeddings());
+            swap(store, "chroma");
+            writeSnapshot(corpus, store.getDimensions());
+        } catch (Exception e) {
+            log.warn("[EthicsPolicyIndex] Chroma 적재 실패: {}", e.getMessage());
+            if (localStore == null) {
+                loadFromSnapshot();
+            }
+        }
+    }
+
+    public Map<String, Object> getCurrentStats() {
+        InMemoryVectorStore store = localStore;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", mode);
+        stats.put("source", source);
+        stats.put("documents", store != null ? store.size() : 0);
+        stats.put("loadedAt", loadedAt);
+        stats.put("localSearches", localSearchCount.get());
+        stats.put("fallbacks", fallbackCount.get());
+        return stats;
+    }
+
+    private boolean isLocalMode() {
+        return "local".equalsIgnoreCase(mode);
+    }
+
+    private Corpus loadFromChroma() {
+        List<Document> documents = vectorStore.similaritySearch(SearchRequest.builder()
+                .query(LOAD_QUERY)
+                .topK(maxDocuments)
+                .similarityThresholdAll()
+                .build());
+
+        if (documents.size() >= maxDocuments) {
+            log.warn("[EthicsPolicyIndex] 컬렉션 문서 수가 max-documents({})에 도달했습니다. 일부 문서가 누락됐을 수 있습니다.", maxDocuments);
+        }
+
+        // Chroma 검색 결과에는 임베딩이 포함되지 않으므로 본문을 한 번에 다시 임베딩 (임베딩 캐시 적용)
+        List<float[]> embeddings = documents.isEmpty()
+                ? List.of()
+                : embeddingModel.embed(documents.stream().map(Document::getText).toList());
+
+        return new Corpus(documents, embeddings);
+    }
+
+    private void loadFromSnapshot() {
+        Path file = Paths.get(snapshotPath);
+        if (!Files.exists(file)) {
+            log.warn("[EthicsPolicyIndex] 스냅샷 파일 없음, Chroma 직접 검색 유지: {}", file.toAbsolutePath());
+            return;
+        }
+
+        try {
+            Snapshot snapshot = objectMapper.readValue(file.toFile(), Snapshot.class);
+            if (!embeddingModelName.equals(snapshot.embeddingModel())) {
+                log.warn("[EthicsPolicyIndex] 스냅샷 임베딩 모델 불일치 ({} != {}), 무시합니다.",
+                        snapshot.embeddingModel(), embeddingModelName);
+                return;
+            }
+
+            List<Document> documents = new ArrayList<>();
+            List<float[]> embeddings = new ArrayList<>();
+            for (SnapshotEntry entry : snapshot.entries()) {
+                documents.add(Document.builder()
+                        .id(entry.id())
+                        .text(entry.text())
+                        .metadata(entry.metadata())
+                        .build());
+                embeddings.add(entry.embedding());
+            }
+
+            swap(new InMemoryVectorStore(embeddingModel, documents, embeddings), "snapshot");
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("[EthicsPolicyIndex] 스냅샷 로드 실패: {}", file, e);
+        }
+    }
+
+    private void writeSnapshot(Corpus corpus, int dimensions) {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return;
+        }
+
+        List<Document> documents = corpus.documents();
+        List<SnapshotEntry> entries = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            Document document = documents.get(i);
+            entries.add(new SnapshotEntry(document.getId(), document.getText(), document.getMetadata(), corpus.embeddings().get(i)));
+        }
+
+        Path file = Paths.get(snapshotPath);
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "ethics-index", ".tmp");
+            objectMapper.writeValue(tmp.toFile(),
+                    new Snapshot(embeddingModelName, dimensions, System.currentTimeMillis(), entries));
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("[EthicsPolicyIndex] 스냅샷 저장 실패: {}", file, e);
+        }
+    }
+
+    private void swap(InMemoryVectorStore store, String source) {
+        this.localStore = store;
+        this.source = source;
+        this.loadedAt = Instant.now();
+        version.incrementAndGet();
+        log.info("[EthicsPolicyIndex] 로컬 인덱스 적재 완료 - source: {}, 문서 {}건, 차원 {}",
+                source, store.size(), store.getDimensions());
+    }
+
+    /**
+     * Chroma 에서 읽은 문서와 임베딩 (로컬 인덱스 생성 + 스냅샷 저장에 함께 사용)
+     */
+    private record Corpus(List<Document> documents, List<float[]> embeddings) {}
+
+    record Snapshot(String embeddingModel, int dimensions, long createdAt, List<SnapshotEntry> entries) {}
+
+    record SnapshotEntry(String id, String text, Map<String, Object> metadata, float[] embedding) {}
+}
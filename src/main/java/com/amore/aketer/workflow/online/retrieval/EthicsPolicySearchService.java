@@ -0,0 +1,122 @@
+package com.amore.aketer.workflow.online.retrieval;
+
+import com.amore.aketer.common.cache.TtlLruCache;
+import com.amore.aketer.workflow.online.agent.executor.AgentExecutor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 윤리 강령 키워드 검색 서비스
+ *
+ * - (쿼리, topK, threshold) 단위 검색 결과 캐시
+ * - 캐시 miss 쿼리는 한 번의 배치 임베딩 요청 후 검색 (VectorStore 검색 시 임베딩 캐시 hit)
+ * - 키워드별 결과를 입력 순서대로 병합 + 중복 제거
+ * - 실제 검색은 {@link EthicsPolicyIndex} (로컬 인덱스 또는 Chroma) 에 위임
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EthicsPolicySearchService {
+
+    private final EthicsPolicyIndex ethicsPolicyIndex;
+    private final EmbeddingModel embeddingModel;
+    private final AgentExecutor agentExecutor;
+
+    @Value("${aketer.agent.ethics-search-cache.ttl:3600000}")
+    private long ttlMillis;
+
+    @Value("${aketer.agent.ethics-search-cache.max-entries:2000}")
+    private int maxEntries;
+
+    private TtlLruCache<SearchKey, List<Document>> searchCache;
+
+    private final AtomicLong hitCount = new AtomicLong(0);
+    private final AtomicLong missCount = new AtomicLong(0);
+
+    @PostConstruct
+    private void init() {
+        searchCache = new TtlLruCache<>(maxEntries, ttlMillis);
+    }
+
+    public List<Document> search(List<String> queries, int topK, double similarityThreshold) {
+        List<String> distinctQueries = queries.stream()
+                .map(String::trim)
+                .filter(query -> !query.isBlank())
+                .distinct()
+                .toList();
+
+        long indexVersion = ethicsPolicyIndex.getVersion();
+        Map<String, List<Document>> results = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+
+        for (String query : distinctQueries) {
+            List<Document> cached = searchCache.get(new SearchKey(query, topK, similarityThreshold, indexVersion));
+            if (cached != null) {
+                results.put(query, cached);
+            } else {
+                misses.add(query);
+            }
+        }
+
+        hitCount.addAndGet(distinctQueries.size() - misses.size());
+        missCount.addAndGet(misses.size());
+
+        if (!misses.isEmpty()) {
+            // miss 쿼리 임베딩을 한 번에 계산해두면 이후 키워드별 검색은 임베딩 API 를 호출하지 않음
+            embeddingModel.embed(misses);
+
+            Map<String, CompletableFuture<List<Document>>> futures = new LinkedHashMap<>();
+            for (String query : misses) {
+                SearchRequest request = SearchRequest.builder()
+                        .query(query)
+                        .topK(topK)
+                        .similarityThreshold(similarityThreshold)
+                        .build();
+                // 로컬 인덱스는 호출당 1ms 미만이라 동기 검색, Chroma 는 HTTP 왕복이므로 병렬 검색
+                futures.put(query, ethicsPolicyIndex.isLocalReady()
+                        ? CompletableFuture.completedFuture(ethicsPolicyIndex.similaritySearch(request))
+                        : CompletableFuture.supplyAsync(() -> ethicsPolicyIndex.similaritySearch(request), agentExecutor));
+            }
+
+            futures.forEach((query, future) -> {
+                List<Document> documents = List.copyOf(future.join());
+                searchCache.put(new SearchKey(query, topK, similarityThreshold, indexVersion), documents);
+                results.put(query, documents);
+            });
+        }
+
+        // 키워드 입력 순서대로 병합
+        Set<Document> merged = distinctQueries.stream()
+                .flatMap(query -> results.get(query).stream())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        log.debug("[EthicsPolicySearchService] 검색 - 쿼리 {}건 중 캐시 miss {}건", distinctQueries.size(), misses.size());
+        return new ArrayList<>(merged);
+    }
+
+    public Map<String, Long> getCurrentStats() {
+        return Map.of(
+                "hit", hitCount.get(),
+                "miss", missCount.get(),
+                "size", (long) searchCache.size()
+        );
+    }
+
+    private record SearchKey(String query, int topK, double similarityThreshold, long indexVersion) {}
+}
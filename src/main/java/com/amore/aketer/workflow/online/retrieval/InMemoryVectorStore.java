@@ -0,0 +1,131 @@
+package com.amore.aketer.workflow.online.retrieval;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.vectorstore.SearchRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 읽기 전용 인메모리 벡터 인덱스 (flat 내적 검색)
+ *
+ * - 정규화된 임베딩을 하나의 연속 float[] 에 저장 → 내적 = 코사인 유사도
+ * - 수천 건 규모 코퍼스는 전수 탐색으로도 1ms 미만 (단순 루프라 JIT 자동 벡터화 대상)
+ * - 인덱스 갱신은 새 인스턴스를 만들어 교체하는 방식 (추가/삭제 없음)
+ * - 메타데이터 필터는 보지 않음 (필터 검색은 호출 측에서 원격 VectorStore 로 위임)
+ */
+public class InMemoryVectorStore {
+
+    private final EmbeddingModel embeddingModel;
+    private final List<Document> documents;
+    private final int dimensions;
+    private final float[] vectors;
+
+    public InMemoryVectorStore(EmbeddingModel embeddingModel, List<Document> documents, List<float[]> embeddings) {
+        if (documents.size() != embeddings.size()) {
+            throw new IllegalArgumentException("문서 수와 임베딩 수가 일치하지 않습니다.");
+        }
+
+        this.embeddingModel = embeddingModel;
+        this.documents = List.copyOf(documents);
+        this.dimensions = embeddings.isEmpty() ? 0 : embeddings.get(0).length;
+        this.vectors = new float[documents.size() * dimensions];
+
+        for (int i = 0; i < embeddings.size(); i++) {
+            float[] embedding = embeddings.get(i);
+            if (embedding.length != dimensions) {
+                throw new IllegalArgumentException("임베딩 차원이 일치하지 않습니다: " + embedding.length + " != " + dimensions);
+            }
+            float[] normalized = normalize(embedding);
+            System.arraycopy(normalized, 0, vectors, i * dimensions, dimensions);
+        }
+    }
+
+    public List<Document> similaritySearch(SearchRequest request) {
+        if (documents.isEmpty()) {
+            return List.of();
+        }
+
+        float[] query = normalize(embeddingModel.embed(request.getQuery()));
+        if (query.length != dimensions) {
+            throw new IllegalStateException("쿼리 임베딩 차원이 인덱스와 다릅니다: " + query.length + " != " + dimensions);
+        }
+
+        int topK = request.getTopK();
+        double threshold = request.getSimilarityThreshold();
+
+        // 점수 오름차순 min-heap 으로 상위 K개 유지
+        PriorityQueue<ScoredIndex> heap = new PriorityQueue<>(topK + 1, (a, b) -> Float.compare(a.score(), b.score()));
+        for (int i = 0; i < documents.size(); i++) {
+            float score = dot(query, vectors, i * dimensions, dimensions);
+            if (score < threshold) {
+                continue;
+            }
+            if (heap.size() < topK) {
+                heap.offer(new ScoredIndex(i, score));
+            } else if (score > heap.peek().score()) {
+                heap.poll();
+                heap.offer(new ScoredIndex(i, score));
+            }
+        }
+
+        List<Document> results = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ScoredIndex scored = heap.poll();
+            results.add(withScore(documents.get(scored.index()), scored.score()));
+        }
+        // heap 은 낮은 점수부터 나오므로 뒤집어서 유사도 내림차순 반환
+        return results.reversed();
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    private static float dot(float[] query, float[] matrix, int offset, int length) {
+        float sum = 0f;
+        for (int i = 0; i < length; i++) {
+            sum += query[i] * matrix[offset + i];
+        }
+        return sum;
+    }
+
+    private static float[] normalize(float[] vector) {
+        double norm = 0d;
+        for (float v : vector) {
+            norm += v * v;
+        }
+        norm = Math.sqrt(norm);
+
+        float[] normalized = new float[vector.length];
+        if (norm == 0d) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    private static Document withScore(Document document, float score) {
+        // ChromaVectorStore 결과와 동일하게 distance 메타데이터 포함
+        Map<String, Object> metadata = new HashMap<>(document.getMetadata());
+        metadata.put("distance", 1f - score);
+        return Document.builder()
+                .id(document.getId())
+                .text(document.getText())
+                .metadata(metadata)
+                .score((double) score)
+                .build();
+    }
+
+    private record ScoredIndex(int index, float score) {}
+}
@@ -0,0 +1,110 @@
+package com.amore.aketer.workflow.online.service;
+
+import com.amore.aketer.workflow.online.agent.graph.MessageGraph;
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import com.amore.aketer.workflow.online.dto.GenerationOutcome;
+import com.amore.aketer.workflow.online.dto.GenerationTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 페르소나 × 상품 단위 LangGraph 실행을 병렬로 fan-out 하는 생성 엔진
+ *
+ * - 실행 단위마다 가상 스레드를 사용하고, 동시에 실행되는 그래프 수는 세마포어로 제한 (aketer.generation.concurrency)
+ * - 한 페르소나의 상품이 모두 끝나면 해당 페르소나의 Recommend / MessageReservation 을 각각 짧은 트랜잭션으로 커밋
+ * - 전체 소요 시간은 상품 수가 아니라 동시 실행 한도에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageGenerationEngine {
+
+    private final MessageGraph messageGraph;
+    private final MessageGenerationService generationService;
+
+    @Value("${aketer.generation.concurrency:8}")
+    private int concurrency;
+
+    public void generate(List<Long> personaIds) {
+        Semaphore permits = new Semaphore(concurrency);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<Void>> personaFutures = personaIds.stream()
+                    .map(personaId -> CompletableFuture.runAsync(
+                            () -> generateForPersona(personaId, executor, permits), executor))
+                    .toList();
+
+            CompletableFuture.allOf(personaFutures.toArray(CompletableFuture[]::new)).join();
+        }
+    }
+
+    private void generateForPersona(Long personaId, ExecutorService executor, Semaphore permits) {
+        try {
+            // 1. 해당 페르소나의 추천 상품 목록 조회 (Rank 순)
+            List<GenerationTarget> targets = generationService.loadTargets(personaId);
+            if (targets.isEmpty()) {
+                return;
+            }
+
+            // [Phase 1] 상품별 메시지 생성 (상품 단위 fan-out, 결과는 Rank 순서 유지)
+            List<CompletableFuture<Optional<GenerationOutcome>>> futures = targets.stream()
+                    .map(target -> CompletableFuture.supplyAsync(() -> execute(target, permits), executor))
+                    .toList();
+
+            List<GenerationOutcome> outcomes = futures.stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(Optional::stream)
+                    .toList();
+
+            List<Long> recommendIds = generationService.saveRecommends(personaId, outcomes);
+            if (recommendIds.isEmpty()) {
+                log.info("No messages generated for Persona ID: {}", personaId);
+                return;
+            }
+
+            // [Phase 2] 유저별 미구매 상품 매칭 및 예약
+            int created = generationService.createReservations(personaId, recommendIds);
+            if (created > 0) {
+                log.info("Created {} reservations for Persona ID: {}", created, personaId);
+            }
+        } catch (Exception e) {
+            log.error("Failed to generate messages for persona {}", personaId, e);
+        }
+    }
+
+    private Optional<GenerationOutcome> execute(GenerationTarget target, Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        try {
+            // LangGraph 실행
+            MessageState result = messageGraph.execute(target.getInitData()).join();
+
+            // 윤리 강령 루프 / 전체 반복 예산 소진으로 검증을 통과하지 못한 메시지는 저장하지 않음
+            if (!"pass".equals(result.getValidation())) {
+                log.warn("Discarding unvalidated message for persona {} and item {} (attempts: {})",
+                        target.getPersonaId(), target.getItemId(), result.getTotalAttempts());
+                return Optional.empty();
+            }
+            return Optional.of(new GenerationOutcome(target.getItemId(), result));
+        } catch (Exception e) {
+            log.error("Failed to generate message for persona {} and item {}", target.getPersonaId(), target.getItemId(), e);
+            return Optional.empty();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.amore.aketer.workflow.online.service;
+
+import com.amore.aketer.domain.association.PersonaItem;
+import com.amore.aketer.domain.association.PersonaItemRepository;
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.domain.enums.RecommendTargetType;
+import com.amore.aketer.domain.item.ItemRepository;
+import com.amore.aketer.domain.message.Message;
+import com.amore.aketer.domain.message.MessageRepository;
+import com.amore.aketer.domain.message.MessageReservationRepository;
+import com.amore.aketer.domain.persona.Persona;
+import com.amore.aketer.domain.persona.PersonaRepository;
+import com.amore.aketer.domain.recommend.Recommend;
+import com.amore.aketer.domain.recommend.RecommendRepository;
+import com.amore.aketer.domain.user.UserRepository;
+import com.amore.aketer.workflow.online.agent.state.ItemState;
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import com.amore.aketer.workflow.online.agent.state.PersonaState;
+import com.amore.aketer.workflow.online.audience.PurchaseIndex;
+import com.amore.aketer.workflow.online.dto.GenerationOutcome;
+import com.amore.aketer.workflow.online.dto.GenerationTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 일일 메시지 생성 배치의 DB 읽기/쓰기 단계
+ *
+ * - LLM 대기 시간 동안 트랜잭션을 잡고 있지 않도록, 각 단계를 짧은 트랜잭션으로 분리
+ * - 페르소나 단위로 Recommend / MessageReservation 을 커밋
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MessageGenerationService {
+
+    private final PersonaRepository personaRepository;
+    private final PersonaItemRepository personaItemRepository;
+    private final ItemRepository itemRepository;
+    private final MessageRepository messageRepository;
+    private final MessageReservationRepository messageReservationRepository;
+    private final RecommendRepository recommendRepository;
+    private final UserRepository userRepository;
+    private final PurchaseIndex purchaseIndex;
+
+    @Value("${aketer.generation.audience-chunk-size:5000}")
+    private int audienceChunkSize;
+
+    @Transactional(readOnly = true)
+    public List<Long> findNewPersonaIds(Instant since) {
+        return personaRepository.findByCreatedAtAfter(since).stream()
+                .map(Persona::getId)
+                .toList();
+    }
+
+    /**
+     * 페르소나의 추천 상품 목록(Rank 순)을 LangGraph 입력으로 변환합니다.
+     * 지연 로딩 필드(대표 특징 등)는 이 트랜잭션 안에서 모두 State 로 옮겨둡니다.
+     */
+    @Transactional(readOnly = true)
+    public List<GenerationTarget> loadTargets(Long personaId) {
+        List<PersonaItem> personaItems = personaItemRepository.findByPersonaIdOrderByRankAsc(personaId);
+        if (personaItems.isEmpty()) {
+            return List.of();
+        }
+
+        PersonaState personaState = PersonaState.from(personaItems.get(0).getPersona());
+
+        return personaItems.stream()
+                .map(personaItem -> GenerationTarget.builder()
+                        .personaId(personaId)
+                        .itemId(personaItem.getItem().getId())
+                        .initData(buildInitData(personaState, ItemState.from(personaItem.getItem())))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * [Phase 1] 상품별 생성 결과를 Message / Recommend 로 저장합니다.
+     *
+     * @return 저장된 Recommend ID 목록 (입력 순서 = 상품 Rank 순)
+     */
+    @Transactional
+    public List<Long> saveRecommends(Long personaId, List<GenerationOutcome> outcomes) {
+        List<Long> recommendIds = new ArrayList<>();
+
+        for (GenerationOutcome outcome : outcomes) {
+            MessageState result = outcome.getState();
+
+            // Message 엔티티 저장
+            Message message = Message.builder()
+                    .title(result.getMessageTitle())
+                    .body(result.getMessageBody())
+                    .build();
+            messageRepository.save(message);
+
+            // 발송 정보 추출 (MessageState에서 ChannelType 직접 사용)
+            ChannelType channelType = result.getChannel();
+            if (channelType == null) {
+                channelType = ChannelType.SMS; // 기본값
+            }
+
+            LocalDateTime scheduledAt = result.getSendTime();
+            if (scheduledAt == null || scheduledAt.isBefore(LocalDateTime.now())) {
+                scheduledAt = LocalDateTime.now().plusHours(1);
+            }
+
+            // Recommend 엔티티 생성 및 저장
+            Recommend recommend = Recommend.builder()
+                    .targetId(personaId)
+                    .targetType(RecommendTargetType.PERSONA)
+                    .item(itemRepository.getReferenceById(outcome.getItemId()))
+                    .message(message)
+                    .recommendReason(result.getDraftReason())
+                    .channelType(channelType)
+                    .scheduledAt(scheduledAt)
+                    .build();
+            recommendRepository.save(recommend);
+
+            recommendIds.add(recommend.getId());
+        }
+
+        return recommendIds;
+    }
+
+    /**
+     * [Phase 2] 유저별 미구매 상품 매칭 및 예약
+     * - 멤버 id 를 keyset 으로 audience-chunk-size 건씩 읽어 구간마다 처리
+     *   - 구매 비트맵 인덱스 준비됨: 비트맵 AND-NOT 으로 유저별 첫 미구매 추천을 정하고 추천별 INSERT ... SELECT
+     *   - 그 외: orders anti-join INSERT ... SELECT 1회
+     * - 유저 엔티티를 영속성 컨텍스트에 올리지 않으므로 페르소나 크기와 무관하게 힙 사용량 일정 (페르소나 단위 커밋은 유지)
+     *
+     * @return 생성된 예약 건수
+     */
+    @Transactional
+    public int createReservations(Long personaId, List<Long> recommendIds) {
+        if (recommendIds.isEmpty()) {
+            return 0;
+        }
+
+        // 추천 우선순위 = id 순
+        List<Recommend> recommends = recommendRepository.findAllById(recommendIds).stream()
+                .sorted(Comparator.comparing(Recommend::getId))
+                .toList();
+        List<Long> itemIds = recommends.stream().map(recommend -> recommend.getItem().getId()).toList();
+
+        int created = 0;
+        long afterId = 0;
+        while (true) {
+            List<Long> memberIds = userRepository.findMemberIdsAfter(personaId, afterId, Limit.of(audienceChunkSize));
+            if (memberIds.isEmpty()) {
+                break;
+            }
+
+            Long fromId = memberIds.get(0);
+            Long toId = memberIds.get(memberIds.size() - 1);
+            if (purchaseIndex.isReady() && PurchaseIndex.supports(toId)) {
+                List<RoaringBitmap> assignments = purchaseIndex.assignFirstUnpurchased(PurchaseIndex.toBitmap(memberIds), itemIds);
+                for (int i = 0; i < recommends.size(); i++) {
+                    if (!assignments.get(i).isEmpty()) {
+                        created += messageReservationRepository.insertRecommendReservations(
+                                personaId, recommends.get(i).getId(), PurchaseIndex.toUserIds(assignments.get(i)));
+                    }
+                }
+            } else {
+                created += messageReservationRepository.insertAudienceReservations(personaId, recommendIds, fromId, toId);
+            }
+            afterId = toId;
+
+            if (memberIds.size() < audienceChunkSize) {
+                break;
+            }
+        }
+        return created;
+    }
+
+    private Map<String, Object> buildInitData(PersonaState persona, ItemState item) {
+        Map<String, Object> initData = new HashMap<>();
+        initData.put(MessageState.PERSONA, persona);
+        initData.put(MessageState.ITEM, item);
+
+        return initData;
+    }
+}
@@ -0,0 +1,97 @@
+package com.amore.aketer.external.channel;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.external.stub.GatewayStubController;
+import com.amore.aketer.messaging.cache.MessageBodyCache;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import com.amore.aketer.messaging.dto.MessageResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.client.MockMvcHttpConnector;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GatewayMessageSenderTest {
+
+    @Test
+    @DisplayName("게이트웨이 스텁 응답별 결과 변환: 2xx 성공, 429/5xx 재시도 가능, 그 외 4xx 재시도 불가")
+    void testResultMapping() {
+        MessageResult ok = send(0, 0, 0);
+        assertThat(ok.isSuccess()).isTrue();
+        assertThat(ok.getMessageId()).startsWith("KAKAO-");
+
+        MessageResult throttled = send(1, 0, 0);
+        assertThat(throttled.isSuccess()).isFalse();
+        assertThat(throttled.isRetryable()).isTrue();
+        assertThat(throttled.getErrorCode()).isEqualTo("KAKAO_HTTP_429");
+
+        MessageResult unavailable = send(0, 1, 0);
+        assertThat(unavailable.isSuccess()).isFalse();
+        assertThat(unavailable.isRetryable()).isTrue();
+        assertThat(unavailable.getErrorCode()).isEqualTo("KAKAO_HTTP_503");
+
+        MessageResult rejected = send(0, 0, 1);
+        assertThat(rejected.isSuccess()).isFalse();
+        assertThat(rejected.isRetryable()).isFalse();
+        assertThat(rejected.getErrorCode()).isEqualTo("KAKAO_HTTP_400");
+    }
+
+    @Test
+    @DisplayName("일괄 전송은 입력 순서대로 결과 반환")
+    void testSendBulk() {
+        GatewayMessageSender sender = sender(0, 0, 0);
+
+        List<MessageResult> results = sender.sendBulk(List.of(payload(1L), payload(2L), payload(3L)));
+
+        assertThat(results).hasSize(3).allMatch(MessageResult::isSuccess);
+    }
+
+    private MessageResult send(double throttleRate, double failureRate, double rejectRate) {
+        return sender(throttleRate, failureRate, rejectRate).send(payload(1L));
+    }
+
+    private GatewayMessageSender sender(double throttleRate, double failureRate, double rejectRate) {
+        GatewayStubController stub = new GatewayStubController();
+        ReflectionTestUtils.setField(stub, "latencyMillis", 0L);
+        ReflectionTestUtils.setField(stub, "jitterMillis", 0L);
+        ReflectionTestUtils.setField(stub, "throttleRate", throttleRate);
+        ReflectionTestUtils.setField(stub, "failureRate", failureRate);
+        ReflectionTestUtils.setField(stub, "rejectRate", rejectRate);
+
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(stub).build();
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost/stub/kakao")
+                .clientConnector(new MockMvcHttpConnector(mockMvc))
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+
+        MessageBodyCache bodyCache = mock(MessageBodyCache.class);
+        when(bodyCache.get(any())).thenReturn(new MessageBodyCache.MessageBody("제목", "본문"));
+
+        return new GatewayMessageSender(ChannelType.KAKAO, webClient, ConnectionProvider.newConnection(), bodyCache,
+                "test-key", 4, Duration.ofSeconds(5));
+    }
+
+    private static MessagePayload payload(Long reservationId) {
+        return MessagePayload.builder()
+                .reservationId(reservationId)
+                .messageId(10L)
+                .channelType(ChannelType.KAKAO)
+                .channelAddress("user@example.com")
+                .traceId("trace-" + reservationId)
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.amore.aketer.messaging.codec;
+
+import com.amore.aketer.domain.enums.ChannelType;
+import com.amore.aketer.messaging.dto.MessagePayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MessagePayloadCodecTest {
+
+    @Test
+    @DisplayName("발송에 필요한 필드를 모두 담아 인코딩/디코딩")
+    void testRoundTrip() {
+        MessagePayload payload = MessagePayload.builder()
+                .reservationId(123_456L)
+                .personaId(42L)
+                .messageId(9_001L)
+                .channelType(ChannelType.KAKAO)
+                .channelAddress("kakao-user-key-0001")
+                .retryCount(2)
+                .traceId(UUID.randomUUID().toString())
+                .build();
+
+        byte[] bytes = MessagePayloadCodec.encode(payload);
+        MessagePayload decoded = MessagePayloadCodec.decode(bytes);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(payload);
+        assertThat(bytes.length).isLessThan(64);
+    }
+
+    @Test
+    @DisplayName("null 필드와 UUID 가 아닌 traceId 유지")
+    void testNullableFields() {
+        MessagePayload payload = MessagePayload.builder()
+                .reservationId(1L)
+                .traceId("legacy-trace")
+                .build();
+
+        MessagePayload decoded = MessagePayloadCodec.decode(MessagePayloadCodec.encode(payload));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(payload);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 버전 / 잘린 페이로드는 변환 예외")
+    void testInvalidPayload() {
+        assertThatThrownBy(() -> MessagePayloadCodec.decode(new byte[]{99}))
+                .isInstanceOf(MessageConversionException.class);
+
+        byte[] bytes = MessagePayloadCodec.encode(MessagePayload.builder().reservationId(1L).channelAddress("01012345678").build());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        assertThatThrownBy(() -> MessagePayloadCodec.decode(truncated))
+                .isInstanceOf(MessageConversionException.class);
+    }
+}
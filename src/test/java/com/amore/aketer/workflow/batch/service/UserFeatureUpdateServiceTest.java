@@ -0,0 +1,63 @@
+package com.amore.aketer.workflow.batch.service;
+
+import com.amore.aketer.domain.enums.BenefitSensitivity;
+import com.amore.aketer.domain.enums.BrandLoyalty;
+import com.amore.aketer.domain.enums.PriceSensitivity;
+import com.amore.aketer.workflow.batch.dto.UserFeatureScore;
+import com.amore.aketer.workflow.batch.dto.UserPurchaseSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserFeatureUpdateServiceTest {
+
+    private final UserFeatureUpdateService service = new UserFeatureUpdateService();
+    private final LocalDate asOfDate = LocalDate.of(2025, 12, 31);
+
+    @Test
+    @DisplayName("주문 집계로 점수와 버킷 계산")
+    void testScore() {
+        // 주문 10건: 2개 브랜드, 반복 구매 브랜드 주문 8건, 할인 6건, 프로모션 4건(증정품 3 / 기획전 1)
+        UserPurchaseSummary summary = new UserPurchaseSummary(7L, 10, 2, 8, 6, 4, 3, 5, 1, 0, 3);
+
+        UserFeatureScore score = service.score(summary, asOfDate);
+
+        assertThat(score.userId()).isEqualTo(7L);
+        assertThat(score.asOfDate()).isEqualTo(asOfDate);
+        assertThat(score.brandLoyaltyScore()).isEqualTo(0.8);
+        assertThat(score.priceSensitivityScore()).isEqualTo(0.6);
+        assertThat(score.benefitSensitivityScore()).isEqualTo(0.4);
+        assertThat(score.brandLoyalty()).isEqualTo(BrandLoyalty.CATEGORY_SPLIT_BY_BRAND);
+        assertThat(score.priceSensitivity()).isEqualTo(PriceSensitivity.DISCOUNT_APPLIED_PRODUCT);
+        assertThat(score.benefitSensitivity()).isEqualTo(BenefitSensitivity.FREE_GIFT);
+    }
+
+    @Test
+    @DisplayName("단일 브랜드 반복 구매 / 정보 없는 버킷은 null / 주문 없으면 점수와 버킷을 비움")
+    void testEdgeBuckets() {
+        UserFeatureScore loyal = service.score(new UserPurchaseSummary(1L, 3, 1, 3, 0, 0, 0, 2, 0, 0, 0), asOfDate);
+
+        assertThat(loyal.brandLoyalty()).isEqualTo(BrandLoyalty.SINGLE_BRAND_LOYAL);
+        assertThat(loyal.priceSensitivity()).isEqualTo(PriceSensitivity.PREMIUM);
+        assertThat(loyal.benefitSensitivity()).isNull();
+
+        UserFeatureScore unknown = service.score(new UserPurchaseSummary(2L, 2, 0, 0, 0, 0, 0, 0, 0, 0, 0), asOfDate);
+
+        assertThat(unknown.brandLoyalty()).isNull();
+        assertThat(unknown.priceSensitivity()).isNull();
+
+        UserFeatureScore cleared = service.score(new UserPurchaseSummary(3L, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0), asOfDate);
+
+        assertThat(cleared.userId()).isEqualTo(3L);
+        assertThat(cleared.asOfDate()).isEqualTo(asOfDate);
+        assertThat(cleared.brandLoyaltyScore()).isNull();
+        assertThat(cleared.priceSensitivityScore()).isNull();
+        assertThat(cleared.benefitSensitivityScore()).isNull();
+        assertThat(cleared.brandLoyalty()).isNull();
+        assertThat(cleared.priceSensitivity()).isNull();
+        assertThat(cleared.benefitSensitivity()).isNull();
+    }
+}
@@ -0,0 +1,52 @@
+package com.amore.aketer.workflow.online.agent.evaluation;
+
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+class EthicsModeComparatorTest {
+
+    @Autowired
+    private EthicsModeComparator ethicsModeComparator;
+
+    @Test
+    @DisplayName("standard / fast 윤리 강령 검증 판정 비교")
+    void testVerdictAgreement() {
+        log.info("=== 윤리 강령 검증 모드 A/B 비교 ===");
+
+        List<String[]> samples = List.of(
+            new String[]{"봄맞이 수분 크림 10% 할인", "건조해진 피부에 촉촉한 보습을 채워보세요. 이번 주 한정 혜택, 지금 확인해보세요."},
+            new String[]{"피부과 안 가도 되는 크림", "바르기만 하면 기미가 사라지고 피부 질환이 개선됩니다. 지금 구매하세요."},
+            new String[]{"타사 제품과는 비교 불가", "다른 브랜드 크림은 효과가 없습니다. 진짜 효과는 우리 제품뿐, 자세히 보기."}
+        );
+
+        for (String[] sample : samples) {
+            Map<String, Object> initData = new HashMap<>();
+            initData.put(MessageState.BRAND, "설화수");
+            initData.put(MessageState.MESSAGE_TITLE, sample[0]);
+            initData.put(MessageState.MESSAGE_BODY, sample[1]);
+
+            EthicsModeComparator.EthicsComparison comparison =
+                ethicsModeComparator.compare(new MessageState(initData));
+
+            log.info("제목: {}", sample[0]);
+            log.info("  standard: {} {}", comparison.standardVerdict(), comparison.standardReasons());
+            log.info("  fast: {} {}", comparison.fastVerdict(), comparison.fastReasons());
+
+            assertThat(comparison.standardVerdict()).isIn("pass", "fail");
+            assertThat(comparison.fastVerdict()).isIn("pass", "fail");
+        }
+
+        log.info("비교 결과: {}", ethicsModeComparator.getCurrentStats());
+    }
+}
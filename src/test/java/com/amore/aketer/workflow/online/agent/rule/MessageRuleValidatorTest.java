@@ -0,0 +1,40 @@
+package com.amore.aketer.workflow.online.agent.rule;
+
+import com.amore.aketer.workflow.online.agent.state.MessageState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageRuleValidatorTest {
+
+    private final MessageRuleValidator validator = validator();
+
+    @Test
+    @DisplayName("허용 복합어(최고급)는 금지 표현(최고)으로 보지 않음")
+    void testAllowedCompound() {
+        assertThat(validator.checkEthics(state("최고급 크림 출시", "최고급 원료로 만든 크림을 지금 확인해 보세요"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조사가 붙거나 띄어쓴 금지 표현은 그대로 검출")
+    void testBannedExpression() {
+        assertThat(validator.checkEthics(state("최고의 크림", "최고급 원료, 효과 100 % 보장")))
+                .containsExactly("금지 표현 사용: '최고'", "금지 표현 사용: '100%'");
+    }
+
+    private static MessageRuleValidator validator() {
+        MessageRuleValidator validator = new MessageRuleValidator();
+        ReflectionTestUtils.setField(validator, "bannedExpressions", List.of("최고", "100%", "치료"));
+        ReflectionTestUtils.setField(validator, "allowedExpressions", List.of("최고급"));
+        return validator;
+    }
+
+    private static MessageState state(String title, String body) {
+        return new MessageState(Map.of(MessageState.MESSAGE_TITLE, title, MessageState.MESSAGE_BODY, body));
+    }
+}
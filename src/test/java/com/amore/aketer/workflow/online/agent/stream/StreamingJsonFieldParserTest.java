@@ -0,0 +1,47 @@
+package com.amore.aketer.workflow.online.agent.stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingJsonFieldParserTest {
+
+    @Test
+    @DisplayName("토큰 단위로 나뉘어 들어온 JSON 의 필드 길이/완료 여부 추적")
+    void testIncrementalFields() {
+        StreamingJsonFieldParser parser = new StreamingJsonFieldParser();
+
+        parser.feed("```json\n{\"ti");
+        parser.feed("tle\": \"봄맞이 ");
+        assertThat(parser.value("title")).isEqualTo("봄맞이 ");
+        assertThat(parser.isComplete("title")).isFalse();
+
+        parser.feed("할인\\n이벤트\", \"bo");
+        assertThat(parser.value("title")).isEqualTo("봄맞이 할인\n이벤트");
+        assertThat(parser.isComplete("title")).isTrue();
+        assertThat(parser.value("body")).isNull();
+
+        parser.feed("dy\": \"\\\"촉촉\\\" 크림 \\uD83D\\uDE00 지금 확인\"");
+        assertThat(parser.value("body")).isEqualTo("\"촉촉\" 크림 😀 지금 확인");
+        assertThat(parser.isComplete("body")).isTrue();
+        assertThat(parser.isDone()).isFalse();
+
+        parser.feed(", \"score\": [1, {\"a\": \"}\"}], \"rationale\": \"근거\"}\n```");
+        assertThat(parser.value("rationale")).isEqualTo("근거");
+        assertThat(parser.value("score")).isNull();
+        assertThat(parser.isDone()).isTrue();
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 필드도 현재까지 길이로 제한 초과 판단 가능")
+    void testPartialLength() {
+        StreamingJsonFieldParser parser = new StreamingJsonFieldParser();
+
+        parser.feed("{\"title\": \"" + "가".repeat(41));
+
+        assertThat(parser.length("title")).isEqualTo(41);
+        assertThat(parser.isComplete("title")).isFalse();
+        assertThat(parser.length("body")).isZero();
+    }
+}
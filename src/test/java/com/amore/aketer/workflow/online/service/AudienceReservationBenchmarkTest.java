@@ -0,0 +1,120 @@
+package com.amore.aketer.workflow.online.service;
+
+import com.amore.aketer.workflow.online.audience.PurchaseIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오디언스 예약 생성 처리량 측정 (MySQL 컨테이너, ./gradlew benchmark)
+ *
+ * - 10만 명 페르소나에 추천 10건, 30% 는 1순위 상품 구매 이력 보유
+ * - createReservations(users.id keyset + orders anti-join INSERT ... SELECT) 소요 시간과 초당 예약 건수 출력
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MessageGenerationService.class, PurchaseIndex.class})
+@TestPropertySource(properties = "aketer.purchase-index.enabled=false")
+class AudienceReservationBenchmarkTest {
+
+    private static final long PERSONA_ID = 1L;
+    private static final int USER_COUNT = 100_000;
+    private static final int RECOMMEND_COUNT = 10;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> mysql.getJdbcUrl() + "?rewriteBatchedStatements=true");
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private MessageGenerationService generationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("10만 명 페르소나 예약 생성 처리량")
+    void testCreateReservationsThroughput() {
+        List<Long> recommendIds = seed();
+
+        long startedAt = System.nanoTime();
+        int created = generationService.createReservations(PERSONA_ID, recommendIds);
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        log.info("[benchmark] 예약 {}건 생성: {}s ({} rows/s)", created, "%.2f".formatted(seconds), (long) (created / seconds));
+
+        assertThat(created).isEqualTo(USER_COUNT);
+        // 1순위 상품 구매자는 2순위 추천으로 예약
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from message_reservation where item_id = 2", Long.class))
+                .isEqualTo(USER_COUNT * 3L / 10);
+    }
+
+    private List<Long> seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp scheduledAt = Timestamp.valueOf(LocalDateTime.now().plusHours(1));
+
+        jdbcTemplate.update("insert into persona (id, name, created_at, updated_at) values (?, ?, ?, ?)",
+                PERSONA_ID, "benchmark", now, now);
+
+        List<Long> recommendIds = new ArrayList<>();
+        for (long id = 1; id <= RECOMMEND_COUNT; id++) {
+            jdbcTemplate.update("insert into item (id, name, meta_path, is_active, created_at, updated_at) values (?, ?, ?, true, ?, ?)",
+                    id, "item-" + id, "/items/" + id, now, now);
+            jdbcTemplate.update("insert into message (id, title, body, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                    id, "title-" + id, "body-" + id, now, now);
+            jdbcTemplate.update("""
+                    insert into recommend (id, target_id, target_type, item_id, message_id, channel_type, scheduled_at, created_at, updated_at)
+                    values (?, ?, 'PERSONA', ?, ?, ?, ?, ?, ?)
+                    """, id, PERSONA_ID, id, id, id % 2 == 0 ? "KAKAO" : "SMS", scheduledAt, now, now);
+            recommendIds.add(id);
+        }
+
+        List<Object[]> users = LongStream.rangeClosed(1, USER_COUNT)
+                .mapToObj(id -> new Object[]{id, PERSONA_ID, "user" + id + "@kakao.test", "010" + (10_000_000 + id), now, now})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                insert into users (id, persona_id, kakao_email, phone_number, is_active, created_at, updated_at)
+                values (?, ?, ?, ?, true, ?, ?)
+                """, users);
+
+        List<Object[]> orders = LongStream.rangeClosed(1, USER_COUNT)
+                .filter(id -> id % 10 < 3)
+                .mapToObj(id -> new Object[]{id, now, now, now})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                insert into orders (user_id, item_id, qty, unit_price, ordered_at, created_at, updated_at)
+                values (?, 1, 1, 10000, ?, ?, ?)
+                """, orders);
+
+        return recommendIds;
+    }
+}
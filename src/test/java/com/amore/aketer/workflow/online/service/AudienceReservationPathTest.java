@@ -0,0 +1,149 @@
+package com.amore.aketer.workflow.online.service;
+
+import com.amore.aketer.workflow.online.audience.PurchaseIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오디언스 예약 두 경로(구매 비트맵 인덱스 / SQL anti-join 폴백)가 같은 "이미 구매" 정의로 같은 예약을 만드는지 검증
+ * (MySQL 컨테이너, Docker 가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({MessageGenerationService.class, PurchaseIndex.class})
+@TestPropertySource(properties = {
+        "aketer.purchase-index.enabled=true",
+        "aketer.purchase-index.snapshot-path=build/tmp/purchase-index-test.bin",
+        "aketer.purchase-index.refresh-interval=3600000"
+})
+// 인덱스 적재는 별도 커넥션으로 읽으므로 시드 데이터를 커밋
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AudienceReservationPathTest {
+
+    private static final long PERSONA_ID = 1L;
+    private static final int USER_COUNT = 60;
+    private static final int RECOMMEND_COUNT = 3;
+
+    @Container
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private MessageGenerationService generationService;
+
+    @Autowired
+    private PurchaseIndex purchaseIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("비트맵 인덱스 경로와 SQL 폴백 경로의 예약 대상/상품이 같음")
+    void testSameAudience() throws InterruptedException {
+        List<Long> recommendIds = seed();
+
+        // 기동 시 전용 스레드의 첫 적재가 끝난 뒤 폴백 경로로 전환 (적재 중에 ready 가 다시 켜지지 않도록)
+        while (!purchaseIndex.isReady()) {
+            Thread.sleep(50);
+        }
+
+        ReflectionTestUtils.setField(purchaseIndex, "ready", false);
+        int sqlCreated = generationService.createReservations(PERSONA_ID, recommendIds);
+        List<String> sqlAudience = audience();
+        jdbcTemplate.update("delete from message_reservation");
+
+        purchaseIndex.rebuild();
+        assertThat(purchaseIndex.isReady()).isTrue();
+        int indexCreated = generationService.createReservations(PERSONA_ID, recommendIds);
+        List<String> indexAudience = audience();
+
+        assertThat(indexCreated).isEqualTo(sqlCreated);
+        assertThat(indexAudience).isEqualTo(sqlAudience);
+        // 1, 2순위 상품을 모두 산 유저(6의 배수)는 3순위, 1순위만 산 유저는 2순위, 채널 주소 없는 유저(7의 배수)는 제외
+        assertThat(sqlAudience).contains("6:3", "2:2", "1:1").doesNotContain("7:1");
+    }
+
+    private List<String> audience() {
+        return jdbcTemplate.queryForList(
+                "select concat(user_id, ':', item_id) from message_reservation order by user_id", String.class);
+    }
+
+    private List<Long> seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp scheduledAt = Timestamp.valueOf(LocalDateTime.now().plusHours(1));
+
+        jdbcTemplate.update("insert into persona (id, name, created_at, updated_at) values (?, ?, ?, ?)",
+                PERSONA_ID, "path-test", now, now);
+
+        List<Long> recommendIds = new ArrayList<>();
+        for (long id = 1; id <= RECOMMEND_COUNT; id++) {
+            jdbcTemplate.update("insert into item (id, name, meta_path, is_active, created_at, updated_at) values (?, ?, ?, true, ?, ?)",
+                    id, "item-" + id, "/items/" + id, now, now);
+            jdbcTemplate.update("insert into message (id, title, body, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                    id, "title-" + id, "body-" + id, now, now);
+            jdbcTemplate.update("""
+                    insert into recommend (id, target_id, target_type, item_id, message_id, channel_type, scheduled_at, created_at, updated_at)
+                    values (?, ?, 'PERSONA', ?, ?, 'KAKAO', ?, ?, ?)
+                    """, id, PERSONA_ID, id, id, scheduledAt, now, now);
+            recommendIds.add(id);
+        }
+
+        for (long id = 1; id <= USER_COUNT; id++) {
+            jdbcTemplate.update("""
+                    insert into users (id, persona_id, kakao_email, phone_number, is_active, created_at, updated_at)
+                    values (?, ?, ?, ?, true, ?, ?)
+                    """, id, PERSONA_ID, id % 7 == 0 ? null : "user" + id + "@kakao.test", "010" + (10_000_000 + id), now, now);
+            if (id % 2 == 0) {
+                order(id, 1, now);
+            }
+            if (id % 6 == 0) {
+                order(id, 2, now);
+            }
+            // 상호작용 집계의 구매 수는 "이미 구매" 정의에 포함하지 않음 (두 경로 모두 orders 기준)
+            if (id % 5 == 0) {
+                jdbcTemplate.update("""
+                        insert into user_item_interaction (as_of_date, user_id, item_id, click_cnt, purchase_cnt, is_wishlisted, is_in_cart, created_at, updated_at)
+                        values (?, ?, 1, 0, 1, false, false, ?, ?)
+                        """, Date.valueOf(LocalDate.now()), id, now, now);
+            }
+        }
+        return recommendIds;
+    }
+
+    private void order(long userId, long itemId, Timestamp now) {
+        jdbcTemplate.update("""
+                insert into orders (user_id, item_id, qty, unit_price, ordered_at, created_at, updated_at)
+                values (?, ?, 1, 10000, ?, ?, ?)
+                """, userId, itemId, now, now, now);
+    }
+}